@@ -2,23 +2,23 @@ package FeelGoodApp;
 
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
-import org.modelmapper.ModelMapper;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+// a cache hit returns before a transaction is opened
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
 public class FeelGoodApp {
 
     public static void main(String[] args) {
         SpringApplication.run(FeelGoodApp.class, args);
     }
 
-    @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
-
     @Bean
     public OpenAPI customOpenAPI() {
         return new OpenAPI()
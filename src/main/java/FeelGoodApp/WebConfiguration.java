@@ -0,0 +1,19 @@
+package FeelGoodApp;
+
+import FeelGoodApp.domain.enums.EventView;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Locale;
+
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    // ?view=summary and ?view=SUMMARY are both accepted
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, EventView.class,
+                view -> EventView.valueOf(view.trim().toUpperCase(Locale.ROOT)));
+    }
+}
@@ -0,0 +1,35 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.service.EventArchiver;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "archive")
+public class ArchiveEndpoint {
+
+    private final EventArchiver eventArchiver;
+
+    public ArchiveEndpoint(EventArchiver eventArchiver) {
+        this.eventArchiver = eventArchiver;
+    }
+
+    @ReadOperation
+    public Map<String, Object> lastRun() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("events", eventArchiver.getLastRunArchived());
+        result.put("lastRunAt", eventArchiver.getLastRunAt());
+        return result;
+    }
+
+    @WriteOperation
+    public Map<String, Object> archive() {
+        eventArchiver.archive();
+        return lastRun();
+    }
+}
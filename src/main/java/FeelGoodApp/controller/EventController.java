@@ -1,12 +1,24 @@
 package FeelGoodApp.controller;
 
+import FeelGoodApp.domain.enums.EventView;
+import FeelGoodApp.domain.enums.ExportFormat;
 import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.EventInfoPage;
+import FeelGoodApp.dto.EventSummaryInfo;
+import FeelGoodApp.dto.ParticipantInfoPage;
 import FeelGoodApp.dto.command.AddPerformerToEventCommand;
 import FeelGoodApp.dto.command.EventCreateCommand;
 import FeelGoodApp.dto.command.EventDateUpdateCommand;
+import FeelGoodApp.dto.command.EventSearchCommand;
+import FeelGoodApp.dto.command.ParticipantPageCommand;
 import FeelGoodApp.exceptionhandling.EventNotFoundException;
+import FeelGoodApp.exceptionhandling.InvalidCursorException;
 import FeelGoodApp.exceptionhandling.MusicVenueNotFoundException;
 import FeelGoodApp.service.EventPerformerService;
+import FeelGoodApp.service.ExportService;
+import FeelGoodApp.service.ParticipantService;
+import FeelGoodApp.service.RepresentationETags;
+import FeelGoodApp.service.TicketAvailabilityPublisher;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -15,25 +27,39 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/events")
-@Slf4j
 @Tag(name = "The controller for Events")
 public class EventController {
 
     private final EventPerformerService eventPerformerService;
+    private final ExportService exportService;
+    private final TicketAvailabilityPublisher ticketAvailabilityPublisher;
+    private final ParticipantService participantService;
+    private final RepresentationETags representationETags;
 
-    public EventController(EventPerformerService eventPerformerService) {
+    @Value("${http.cache.list_max_age}")
+    private Integer listMaxAge;
+
+    public EventController(EventPerformerService eventPerformerService, ExportService exportService, TicketAvailabilityPublisher ticketAvailabilityPublisher, ParticipantService participantService, RepresentationETags representationETags) {
         this.eventPerformerService = eventPerformerService;
+        this.exportService = exportService;
+        this.ticketAvailabilityPublisher = ticketAvailabilityPublisher;
+        this.participantService = participantService;
+        this.representationETags = representationETags;
     }
 
     @Operation(summary = "Create a new Event")
@@ -48,23 +74,53 @@ public class EventController {
             )})
     @PostMapping
     public ResponseEntity<EventInfo> saveEvent(@Valid @RequestBody EventCreateCommand command) {
-        log.info("Http request, POST /api/events, body: " + command.toString());
         EventInfo saved = eventPerformerService.saveEvent(command);
         return new ResponseEntity<>(saved, HttpStatus.CREATED);
     }
 
-    @Operation(summary = "Find all active Events")
-    @ApiResponse(responseCode = "200", description = "Return active Events.")
+    @Operation(summary = "Find active Events page by page, ordered by date")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return a page of active Events."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Bad request!",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = InvalidCursorException.class)))
+            )})
     @GetMapping
-    public ResponseEntity<List<EventInfo>> getEvents() {
-        log.info("Http request, GET /api/events");
-        List<EventInfo> eventInfosList = eventPerformerService.getEvents();
-        return new ResponseEntity<>(eventInfosList, HttpStatus.OK);
+    public ResponseEntity<EventInfoPage> getEvents(@Valid EventSearchCommand command) {
+        EventInfoPage eventInfoPage = eventPerformerService.getEvents(command);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(listMaxAge, TimeUnit.SECONDS))
+                .body(eventInfoPage);
     }
 
-    @Operation(summary = "Find an Event by id")
+    @Operation(summary = "Export all active Events ordered by date, streamed as NDJSON or CSV")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Return selected Event."),
+            @ApiResponse(responseCode = "200", description = "Stream all active Events.")})
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEvents(
+            @Parameter(description = "format of the export", example = "CSV")
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = out -> exportService.exportEvents(format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .body(body);
+    }
+
+    @Operation(summary = "Find an Event by id",
+            description = "The FULL view embeds the Performers and the Participants, the SUMMARY view only their " +
+                    "counts, page the Participants of a large Event with GET /api/events/{eventId}/participants.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Return selected Event.",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(oneOf = {EventInfo.class, EventSummaryInfo.class}))
+            ),
+            @ApiResponse(responseCode = "304", description = "Event has not changed since the ETag in If-None-Match."),
             @ApiResponse(
                     responseCode = "400",
                     description = "Bad request!",
@@ -73,11 +129,62 @@ public class EventController {
                             array = @ArraySchema(schema = @Schema(implementation = EventNotFoundException.class)))
             )})
     @GetMapping("/{eventId}")
-    public ResponseEntity<EventInfo> getEventById(@Parameter(description = "Id of Event", example = "1")
-                                                  @PathVariable Integer eventId) {
-        log.info("Http request, GET /api/events/{eventId}, parameter: " + eventId);
+    public ResponseEntity<Object> getEventById(@Parameter(description = "Id of Event", example = "1")
+                                               @PathVariable Integer eventId,
+                                               @Parameter(description = "shape of the Event", example = "SUMMARY")
+                                               @RequestParam(defaultValue = "FULL") EventView view,
+                                               WebRequest webRequest) {
+        if (view == EventView.SUMMARY) {
+            EventSummaryInfo summary = eventPerformerService.getEventSummaryById(eventId);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .body(summary);
+        }
         EventInfo event = eventPerformerService.getEventById(eventId);
-        return new ResponseEntity<>(event, HttpStatus.OK);
+        String eTag = representationETags.eventETag(event);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .body(event);
+    }
+
+    @Operation(summary = "Find the Participants of an Event page by page, ordered by id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return a page of Participants on Event."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Bad request!",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = EventNotFoundException.class)))
+            )})
+    @GetMapping("/{eventId}/participants")
+    public ResponseEntity<ParticipantInfoPage> getParticipantsOfEvent(@Parameter(description = "Id of Event", example = "1")
+                                                                      @PathVariable Integer eventId,
+                                                                      @Valid ParticipantPageCommand command) {
+        ParticipantInfoPage participantInfoPage = participantService.getParticipantsPage(eventId, command);
+        return new ResponseEntity<>(participantInfoPage, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Stream the ticket availability of an Event as Server-Sent Events",
+            description = "The first message is the current availability, then at most a few updates per second " +
+                    "while tickets are sold.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream of availability messages."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Bad request!",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = EventNotFoundException.class)))
+            )})
+    @GetMapping(value = "/{eventId}/availability", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTicketAvailability(@Parameter(description = "Id of Event", example = "1")
+                                               @PathVariable Integer eventId) {
+        return ticketAvailabilityPublisher.subscribe(eventId);
     }
 
     @Operation(summary = "Assign a Performer to an Event")
@@ -94,8 +201,6 @@ public class EventController {
     public ResponseEntity<EventInfo> addPerformerToEvent(@Parameter(description = "Id of Event", example = "1")
                                                          @PathVariable Integer eventId,
                                                          @Valid @RequestBody AddPerformerToEventCommand command) {
-        log.info("Http request, POST /api/events/{eventId}, parameter: " + eventId
-                + " body: " + command);
         EventInfo eventPerformerModified = eventPerformerService.addPerformerToEvent(eventId, command);
         return new ResponseEntity<>(eventPerformerModified, HttpStatus.OK);
     }
@@ -115,8 +220,6 @@ public class EventController {
                                                          @PathVariable Integer eventId,
                                                          @Parameter(description = "Id of Performer", example = "1")
                                                          @PathVariable Integer performerId) {
-        log.info("Http request, DELETE /api/events/{eventId}/{performerId}, parameters: event id - " + eventId
-                + " performer id - " + performerId);
         eventPerformerService.removePerformerFromEvent(eventId, performerId);
         return new ResponseEntity<>(HttpStatus.OK);
     }
@@ -135,7 +238,6 @@ public class EventController {
     public ResponseEntity<EventInfo> modifyEventDate(@Parameter(description = "Id of Event", example = "1")
                                                      @PathVariable Integer eventId,
                                                      @Valid @RequestBody EventDateUpdateCommand command) {
-        log.info("Http request, PUT /api/events/{eventId}, parameters: " + eventId);
         EventInfo modifyEventDate = eventPerformerService.modifyEventDate(eventId, command);
         return new ResponseEntity<>(modifyEventDate, HttpStatus.OK);
     }
@@ -153,8 +255,6 @@ public class EventController {
     @DeleteMapping("/{eventId}")
     public ResponseEntity<Void> deleteEvent(@Parameter(description = "Id of Event", example = "1")
                                             @PathVariable Integer eventId) {
-        log.info("Http request, DELETE /api/events/{eventId}, parameter: "
-                + eventId);
         eventPerformerService.deleteEvent(eventId);
         return new ResponseEntity<>(HttpStatus.OK);
     }
@@ -0,0 +1,30 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.service.EventReadModel;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Endpoint(id = "eventreadmodel")
+public class EventReadModelEndpoint {
+
+    private final EventReadModel eventReadModel;
+
+    public EventReadModelEndpoint(EventReadModel eventReadModel) {
+        this.eventReadModel = eventReadModel;
+    }
+
+    @ReadOperation
+    public Map<String, Integer> size() {
+        return Map.of("events", eventReadModel.size());
+    }
+
+    @WriteOperation
+    public Map<String, Integer> rebuild() {
+        return Map.of("events", eventReadModel.rebuild());
+    }
+}
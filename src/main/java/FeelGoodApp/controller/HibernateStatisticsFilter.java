@@ -0,0 +1,51 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.repository.HibernateRequestStatistics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/** Records the SQL statements, entity loads and flushes of every request. */
+@Component
+public class HibernateStatisticsFilter extends OncePerRequestFilter {
+
+    private final HibernateRequestStatistics hibernateRequestStatistics;
+    private final MeterRegistry meterRegistry;
+
+    public HibernateStatisticsFilter(HibernateRequestStatistics hibernateRequestStatistics, MeterRegistry meterRegistry) {
+        this.hibernateRequestStatistics = hibernateRequestStatistics;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        hibernateRequestStatistics.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            HibernateRequestStatistics.Counts counts = hibernateRequestStatistics.end();
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (uri != null) {
+                record("hibernate.request.statements", request, uri, counts.getStatements());
+                record("hibernate.request.entity.loads", request, uri, counts.getEntityLoads());
+                record("hibernate.request.flushes", request, uri, counts.getFlushes());
+            }
+        }
+    }
+
+    private void record(String name, HttpServletRequest request, Object uri, int amount) {
+        DistributionSummary.builder(name)
+                .tag("method", request.getMethod())
+                .tag("uri", uri.toString())
+                .register(meterRegistry)
+                .record(amount);
+    }
+}
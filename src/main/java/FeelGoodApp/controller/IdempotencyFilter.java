@@ -0,0 +1,228 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.exceptionhandling.ValidationError;
+import FeelGoodApp.service.IdempotencyStore;
+import FeelGoodApp.service.IdempotentResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/** Runs the POST and PUT requests at most once per Idempotency-Key header. */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Value("${idempotency.max_body_size}")
+    private Integer maxBodySize;
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore, ObjectMapper objectMapper) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        return request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !("POST".equals(method) || "PUT".equals(method))
+                || !(uri.startsWith("/api/events") || uri.startsWith("/api/participants"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        String key = request.getMethod() + " " + request.getRequestURI() + " " + idempotencyKey;
+        byte[] body = readBody(request);
+        if (body == null) {
+            reject(response, HttpStatus.PAYLOAD_TOO_LARGE, "A request with Idempotency-Key may have at most " +
+                    maxBodySize + " bytes of body.");
+            return;
+        }
+        String fingerprint = DigestUtils.md5DigestAsHex(body);
+
+        Optional<IdempotentResponse> stored;
+        try {
+            stored = idempotencyStore.start(key);
+        } catch (TimeoutException exception) {
+            reject(response, HttpStatus.CONFLICT, "A request with Idempotency-Key " + idempotencyKey +
+                    " is still in progress. Try again later.");
+            return;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("Interrupted while waiting for Idempotency-Key " + idempotencyKey, exception);
+        } catch (ExecutionException exception) {
+            throw new ServletException("Waiting for Idempotency-Key " + idempotencyKey + " failed", exception);
+        }
+        if (stored.isPresent()) {
+            replay(stored.get(), fingerprint, idempotencyKey, response);
+            return;
+        }
+        IdempotentResponse result = null;
+        try {
+            ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(new CachedBodyRequest(request, body), responseWrapper);
+            if (HttpStatus.valueOf(responseWrapper.getStatus()).is2xxSuccessful()) {
+                result = new IdempotentResponse(fingerprint, responseWrapper.getStatus(),
+                        responseWrapper.getContentType(), responseWrapper.getContentAsByteArray());
+            }
+            responseWrapper.copyBodyToResponse();
+        } finally {
+            idempotencyStore.finish(key, result);
+        }
+    }
+
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxBodySize) {
+            return null;
+        }
+        byte[] body = StreamUtils.copyToByteArray(new BoundedInputStream(request.getInputStream(), maxBodySize + 1));
+        return body.length > maxBodySize ? null : body;
+    }
+
+    private void replay(IdempotentResponse stored, String fingerprint, String idempotencyKey, HttpServletResponse response) throws IOException {
+        if (!stored.getRequestFingerprint().equals(fingerprint)) {
+            reject(response, HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key " + idempotencyKey +
+                    " is already used with another request body.");
+            return;
+        }
+        idempotencyStore.replayed();
+        response.setStatus(stored.getStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                List.of(new ValidationError(IDEMPOTENCY_KEY_HEADER, message)));
+    }
+
+    // the body is read once for its fingerprint, the controller reads the copy
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException exception) {
+                        readListener.onError(exception);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] bytes, int offset, int length) {
+                    return input.read(bytes, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+    }
+
+    // stops after limit bytes, so an oversized body is not buffered whole
+    private static class BoundedInputStream extends InputStream {
+
+        private final InputStream input;
+        private long remaining;
+
+        private BoundedInputStream(InputStream input, long limit) {
+            this.input = input;
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = input.read();
+            if (read != -1) {
+                remaining--;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = input.read(bytes, offset, (int) Math.min(length, remaining));
+            if (read != -1) {
+                remaining -= read;
+            }
+            return read;
+        }
+    }
+}
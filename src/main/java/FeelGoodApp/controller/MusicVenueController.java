@@ -5,6 +5,7 @@ import FeelGoodApp.dto.command.MusicVenueCreateCommand;
 import FeelGoodApp.exceptionhandling.MusicVenueNameNotUniqueException;
 import FeelGoodApp.exceptionhandling.MusicVenueNotFoundException;
 import FeelGoodApp.service.MusicVenueService;
+import FeelGoodApp.service.RepresentationETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -13,25 +14,32 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/musicVenues")
-@Slf4j
 @Tag(name = "The controller for MusicVenue")
 public class MusicVenueController {
 
     private final MusicVenueService musicVenueService;
+    private final RepresentationETags representationETags;
 
-    public MusicVenueController(MusicVenueService musicVenueService) {
+    @Value("${http.cache.list_max_age}")
+    private Integer listMaxAge;
+
+    public MusicVenueController(MusicVenueService musicVenueService, RepresentationETags representationETags) {
         this.musicVenueService = musicVenueService;
+        this.representationETags = representationETags;
     }
 
     @Operation(summary = "Create a new MusicVenue")
@@ -46,23 +54,31 @@ public class MusicVenueController {
             )})
     @PostMapping
     public ResponseEntity<MusicVenueInfo> saveMusicVenue(@Valid @RequestBody MusicVenueCreateCommand command) {
-        log.info("Http request, POST /api/musicVenues, body: " + command.toString());
         MusicVenueInfo saved = musicVenueService.saveMusicVenue(command);
         return new ResponseEntity<>(saved, HttpStatus.CREATED);
     }
 
     @Operation(summary = "Find all active MusicVenues")
-    @ApiResponse(responseCode = "200", description = "Return all active MusicVenues.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return all active MusicVenues."),
+            @ApiResponse(responseCode = "304", description = "MusicVenues have not changed since the ETag in If-None-Match.")})
     @GetMapping
-    public ResponseEntity<List<MusicVenueInfo>> getMusicVenues() {
-        log.info("Http request, GET /api/musicVenues");
+    public ResponseEntity<List<MusicVenueInfo>> getMusicVenues(WebRequest webRequest) {
         List<MusicVenueInfo> MusicVenueInfosList = musicVenueService.getMusicVenues();
-        return new ResponseEntity<>(MusicVenueInfosList, HttpStatus.OK);
+        String eTag = representationETags.musicVenuesETag(MusicVenueInfosList);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(listMaxAge, TimeUnit.SECONDS))
+                .eTag(eTag)
+                .body(MusicVenueInfosList);
     }
 
     @Operation(summary = "Find an MusicVenue by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Return selected MusicVenue."),
+            @ApiResponse(responseCode = "304", description = "MusicVenue has not changed since the ETag in If-None-Match."),
             @ApiResponse(
                     responseCode = "400",
                     description = "Bad request!",
@@ -72,10 +88,17 @@ public class MusicVenueController {
             )})
     @GetMapping("/{musicVenueId}")
     public ResponseEntity<MusicVenueInfo> getMusicVenueById(@Parameter(description = "Id of MusicVenue", example = "1")
-                                                            @PathVariable Integer musicVenueId) {
-        log.info("Http request, GET /api/musicVenues/{musicVenueId}, parameter: " + musicVenueId);
+                                                            @PathVariable Integer musicVenueId,
+                                                            WebRequest webRequest) {
         MusicVenueInfo musicVenue = musicVenueService.getMusicVenueById(musicVenueId);
-        return new ResponseEntity<>(musicVenue, HttpStatus.OK);
+        String eTag = representationETags.musicVenueETag(musicVenue);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .body(musicVenue);
     }
 
     @Operation(summary = "Delete an MusicVenue")
@@ -91,7 +114,6 @@ public class MusicVenueController {
     @DeleteMapping("/{musicVenueId}")
     public ResponseEntity<Void> deleteMusicVenue(@Parameter(description = "Id of MusicVenue", example = "1")
                                                  @PathVariable Integer musicVenueId) {
-        log.info("Http request, DELETE /api/musicVenues/{musicVenueId}, parameter: " + musicVenueId);
         musicVenueService.deleteMusicVenue(musicVenueId);
         return new ResponseEntity<>(HttpStatus.OK);
     }
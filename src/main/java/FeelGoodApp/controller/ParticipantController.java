@@ -1,10 +1,25 @@
 package FeelGoodApp.controller;
 
+import FeelGoodApp.domain.enums.ExportFormat;
+import FeelGoodApp.dto.AdmissionInfo;
+import FeelGoodApp.dto.HoldInfo;
+import FeelGoodApp.dto.ParticipantBatchRowInfo;
 import FeelGoodApp.dto.ParticipantInfo;
 import FeelGoodApp.dto.ParticipantInfoList;
 import FeelGoodApp.dto.command.ParticipantCreateCommand;
+import FeelGoodApp.exceptionhandling.AdmissionRequiredException;
+import FeelGoodApp.exceptionhandling.AdmissionTokenNotFoundException;
+import FeelGoodApp.exceptionhandling.BatchRegistrationNotAllowedException;
 import FeelGoodApp.exceptionhandling.EventNotFoundException;
+import FeelGoodApp.exceptionhandling.HoldNotFoundException;
+import FeelGoodApp.exceptionhandling.InvalidNdjsonLineException;
+import FeelGoodApp.exceptionhandling.ParticipantBatchTooLargeException;
+import FeelGoodApp.service.ExportService;
 import FeelGoodApp.service.ParticipantService;
+import FeelGoodApp.service.SeatHoldStore;
+import FeelGoodApp.service.WaitingRoom;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -13,25 +28,46 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/participants")
-@Slf4j
 @Tag(name = "The controller for Participants")
 public class ParticipantController {
 
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final String ADMISSION_TOKEN_HEADER = "Admission-Token";
+
     private final ParticipantService participantService;
+    private final ExportService exportService;
+    private final ObjectMapper objectMapper;
+    private final WaitingRoom waitingRoom;
+    private final SeatHoldStore seatHoldStore;
+
+    @Value("${event.participants.max_batch_size}")
+    private Integer maxBatchSize;
 
-    public ParticipantController(ParticipantService participantService) {
+    public ParticipantController(ParticipantService participantService, ExportService exportService, ObjectMapper objectMapper, WaitingRoom waitingRoom, SeatHoldStore seatHoldStore) {
         this.participantService = participantService;
+        this.exportService = exportService;
+        this.objectMapper = objectMapper;
+        this.waitingRoom = waitingRoom;
+        this.seatHoldStore = seatHoldStore;
     }
 
     @Operation(summary = "Create a new Participant")
@@ -43,17 +79,174 @@ public class ParticipantController {
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
                             array = @ArraySchema(schema = @Schema(implementation = EventNotFoundException.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "The Event is sold through its waiting room, no admitted token!",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = AdmissionRequiredException.class)))
             )})
     @PostMapping("/{eventId}")
     public ResponseEntity<ParticipantInfo> saveParticipant(@Parameter(description = "Id of Event", example = "1")
                                                            @PathVariable Integer eventId,
+                                                           @Parameter(description = "admitted token of the waiting room, required if the Event has one")
+                                                           @RequestHeader(name = ADMISSION_TOKEN_HEADER, required = false) String admissionToken,
                                                            @Valid @RequestBody ParticipantCreateCommand command) {
-        log.info("Http request, POST /api/participants/{eventId}, parameter: " + eventId +
-                " body: " + command.toString());
-        ParticipantInfo saved = participantService.saveParticipant(eventId, command);
+        ParticipantInfo saved = admitted(eventId, admissionToken,
+                () -> participantService.saveParticipant(eventId, command));
         return new ResponseEntity<>(saved, HttpStatus.CREATED);
     }
 
+    @Operation(summary = "Hold a ticket of Event until it is confirmed or its hold expires")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Return the hold and its deadline."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Bad request!",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = EventNotFoundException.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "The Event is sold through its waiting room, no admitted token!",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = AdmissionRequiredException.class)))
+            )})
+    @PostMapping("/{eventId}/holds")
+    public ResponseEntity<HoldInfo> holdTicket(@Parameter(description = "Id of Event", example = "1")
+                                               @PathVariable Integer eventId,
+                                               @Parameter(description = "admitted token of the waiting room, required if the Event has one")
+                                               @RequestHeader(name = ADMISSION_TOKEN_HEADER, required = false) String admissionToken) {
+        HoldInfo hold = admitted(eventId, admissionToken, () -> participantService.holdTicket(eventId));
+        return new ResponseEntity<>(hold, HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Confirm a held ticket with the data of its Participant")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Return created Participant."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Bad request!",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = HoldNotFoundException.class)))
+            )})
+    @PostMapping("/{eventId}/holds/{holdId}")
+    public ResponseEntity<ParticipantInfo> confirmHold(@Parameter(description = "Id of Event", example = "1")
+                                                       @PathVariable Integer eventId,
+                                                       @Parameter(description = "Id of the hold")
+                                                       @PathVariable String holdId,
+                                                       @Valid @RequestBody ParticipantCreateCommand command) {
+        ParticipantInfo saved = participantService.confirmHold(eventId, holdId, command);
+        return new ResponseEntity<>(saved, HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Give a held ticket back")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "The ticket is for sale again."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Bad request!",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = HoldNotFoundException.class)))
+            )})
+    @DeleteMapping("/{eventId}/holds/{holdId}")
+    public ResponseEntity<Void> releaseHold(@Parameter(description = "Id of Event", example = "1")
+                                            @PathVariable Integer eventId,
+                                            @Parameter(description = "Id of the hold")
+                                            @PathVariable String holdId) {
+        seatHoldStore.release(eventId, holdId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @Operation(summary = "Join the waiting room of Event for an admission token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Return the token and its place in the queue.")})
+    @PostMapping("/{eventId}/admissions")
+    public ResponseEntity<AdmissionInfo> joinWaitingRoom(@Parameter(description = "Id of Event", example = "1")
+                                                         @PathVariable Integer eventId) {
+        AdmissionInfo admission = waitingRoom.join(eventId);
+        return new ResponseEntity<>(admission, HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Poll the state of an admission token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return the state of the token and its place in the queue."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Bad request!",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = AdmissionTokenNotFoundException.class)))
+            )})
+    @GetMapping("/{eventId}/admissions/{token}")
+    public ResponseEntity<AdmissionInfo> getAdmission(@Parameter(description = "Id of Event", example = "1")
+                                                      @PathVariable Integer eventId,
+                                                      @Parameter(description = "admission token")
+                                                      @PathVariable String token) {
+        AdmissionInfo admission = waitingRoom.status(eventId, token);
+        return new ResponseEntity<>(admission, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Create Participants in bulk from a JSON array")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return the outcome of every row."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Bad request!",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = EventNotFoundException.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "The Event is sold through its waiting room, no batch registration!",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = BatchRegistrationNotAllowedException.class)))
+            )})
+    @PostMapping(value = "/{eventId}/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<ParticipantBatchRowInfo>> saveParticipants(
+            @Parameter(description = "Id of Event", example = "1")
+            @PathVariable Integer eventId,
+            @RequestBody List<ParticipantCreateCommand> commands) {
+        waitingRoom.checkBatchAllowed(eventId);
+        List<ParticipantBatchRowInfo> results = participantService.saveParticipants(eventId, commands);
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Create Participants in bulk from an NDJSON stream, one Participant per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Return the outcome of every row."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Bad request!",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = EventNotFoundException.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "The Event is sold through its waiting room, no batch registration!",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = BatchRegistrationNotAllowedException.class)))
+            )})
+    @PostMapping(value = "/{eventId}/batch", consumes = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<ParticipantBatchRowInfo>> saveParticipantsFromNdjson(
+            @Parameter(description = "Id of Event", example = "1")
+            @PathVariable Integer eventId,
+            InputStream body) throws IOException {
+        waitingRoom.checkBatchAllowed(eventId);
+        List<ParticipantCreateCommand> commands = readNdjson(body);
+        List<ParticipantBatchRowInfo> results = participantService.saveParticipants(eventId, commands);
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
     @Operation(summary = "Find all Participants on Event")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Return all Participants on Event."),
@@ -68,8 +261,67 @@ public class ParticipantController {
     public ResponseEntity<List<ParticipantInfoList>> getParticipantsByEvent(
             @Parameter(description = "Id of Event", example = "1")
             @PathVariable Integer eventId) {
-        log.info("Http request, GET /api/participants/{eventId}, parameter: " + eventId);
         List<ParticipantInfoList> participants = participantService.getParticipantsByEvent(eventId);
         return new ResponseEntity<>(participants, HttpStatus.OK);
     }
+
+    @Operation(summary = "Export all Participants on Event, streamed as NDJSON or CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream all Participants on Event."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Bad request!",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = EventNotFoundException.class)))
+            )})
+    @GetMapping("/{eventId}/export")
+    public ResponseEntity<StreamingResponseBody> exportParticipantsByEvent(
+            @Parameter(description = "Id of Event", example = "1")
+            @PathVariable Integer eventId,
+            @Parameter(description = "format of the export", example = "CSV")
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        exportService.checkEventExists(eventId);
+        StreamingResponseBody body = out -> exportService.exportParticipantsByEvent(eventId, format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .body(body);
+    }
+
+    // checked before the transaction, a buyer without an admitted token does not reach the database
+    private <T> T admitted(Integer eventId, String admissionToken, Supplier<T> purchase) {
+        waitingRoom.claim(eventId, admissionToken);
+        T result;
+        try {
+            result = purchase.get();
+        } catch (RuntimeException exception) {
+            waitingRoom.release(admissionToken);
+            throw exception;
+        }
+        waitingRoom.used(admissionToken);
+        return result;
+    }
+
+    // stops at the first line over max_batch_size, the rest of an oversized body is neither kept nor parsed
+    private List<ParticipantCreateCommand> readNdjson(InputStream body) throws IOException {
+        List<ParticipantCreateCommand> commands = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (commands.size() == maxBatchSize) {
+                throw new ParticipantBatchTooLargeException(maxBatchSize);
+            }
+            try {
+                commands.add(objectMapper.readValue(line, ParticipantCreateCommand.class));
+            } catch (JsonProcessingException exception) {
+                throw new InvalidNdjsonLineException(lineNumber);
+            }
+        }
+        return commands;
+    }
 }
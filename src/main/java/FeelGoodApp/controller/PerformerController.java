@@ -6,6 +6,7 @@ import FeelGoodApp.dto.command.PerformerPartnerLevelUpdateCommand;
 import FeelGoodApp.exceptionhandling.PerformerNameNotUniqueException;
 import FeelGoodApp.exceptionhandling.PerformerNotFoundException;
 import FeelGoodApp.service.EventPerformerService;
+import FeelGoodApp.service.RepresentationETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -14,25 +15,32 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/performers")
-@Slf4j
 @Tag(name = "The controller for Performers")
 public class PerformerController {
 
     private final EventPerformerService eventPerformerService;
+    private final RepresentationETags representationETags;
 
-    public PerformerController(EventPerformerService eventPerformerService) {
+    @Value("${http.cache.list_max_age}")
+    private Integer listMaxAge;
+
+    public PerformerController(EventPerformerService eventPerformerService, RepresentationETags representationETags) {
         this.eventPerformerService = eventPerformerService;
+        this.representationETags = representationETags;
     }
 
     @Operation(summary = "Create a new Performer")
@@ -47,7 +55,6 @@ public class PerformerController {
             )})
     @PostMapping
     public ResponseEntity<PerformerInfo> savePerformer(@Valid @RequestBody PerformerCreateCommand command) {
-        log.info("Http request, POST /api/performers, body: " + command.toString());
         PerformerInfo saved = eventPerformerService.savePerformer(command);
         return new ResponseEntity<>(saved, HttpStatus.CREATED);
     }
@@ -56,14 +63,16 @@ public class PerformerController {
     @ApiResponse(responseCode = "200", description = "Return active Performers.")
     @GetMapping
     public ResponseEntity<List<PerformerInfo>> getPerformers() {
-        log.info("Http request, GET /api/performers");
         List<PerformerInfo> performerInfos = eventPerformerService.getPerformers();
-        return new ResponseEntity<>(performerInfos, HttpStatus.OK);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(listMaxAge, TimeUnit.SECONDS))
+                .body(performerInfos);
     }
 
     @Operation(summary = "Find an Performer by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Return selected Performer."),
+            @ApiResponse(responseCode = "304", description = "Performer has not changed since the ETag in If-None-Match."),
             @ApiResponse(
                     responseCode = "400",
                     description = "Bad request!",
@@ -73,10 +82,17 @@ public class PerformerController {
             )})
     @GetMapping("/{performerId}")
     public ResponseEntity<PerformerInfo> getPerformerById(@Parameter(description = "Id of Performer", example = "1")
-                                                          @PathVariable Integer performerId) {
-        log.info("Http request, GET /api/performers/{performerId}, parameter: " + performerId);
+                                                          @PathVariable Integer performerId,
+                                                          WebRequest webRequest) {
         PerformerInfo performer = eventPerformerService.getPerformerById(performerId);
-        return new ResponseEntity<>(performer, HttpStatus.OK);
+        String eTag = representationETags.performerETag(performer);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .body(performer);
     }
 
     @Operation(summary = "Modify partner level of Performer")
@@ -93,7 +109,6 @@ public class PerformerController {
     public ResponseEntity<PerformerInfo> modifyPerformerTier(@Parameter(description = "Id of Performer", example = "1")
                                                              @PathVariable Integer performerId,
                                                              @Valid @RequestBody PerformerPartnerLevelUpdateCommand command) {
-        log.info("Http request, PUT /api/performers/{performerId}, parameters: " + performerId);
         PerformerInfo modifyPerformerTier = eventPerformerService.modifyPerformerTier(performerId, command);
         return new ResponseEntity<>(modifyPerformerTier, HttpStatus.OK);
     }
@@ -111,8 +126,6 @@ public class PerformerController {
     @DeleteMapping("/{performerId}")
     public ResponseEntity<Void> deletePerformer(@Parameter(description = "Id of Performer", example = "1")
                                                 @PathVariable Integer performerId) {
-        log.info("Http request, DELETE /api/performers/{performerId}, parameter: "
-                + performerId);
         eventPerformerService.deletePerformer(performerId);
         return new ResponseEntity<>(HttpStatus.OK);
     }
@@ -0,0 +1,37 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.service.PricingEngine;
+import FeelGoodApp.service.PricingSnapshot;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Endpoint(id = "pricing")
+public class PricingEndpoint {
+
+    private final PricingEngine pricingEngine;
+
+    public PricingEndpoint(PricingEngine pricingEngine) {
+        this.pricingEngine = pricingEngine;
+    }
+
+    @ReadOperation
+    public Map<String, Object> pricing() {
+        return describe(pricingEngine.current());
+    }
+
+    @WriteOperation
+    public Map<String, Object> reload() {
+        return describe(pricingEngine.reload());
+    }
+
+    private Map<String, Object> describe(PricingSnapshot snapshot) {
+        return Map.of("version", snapshot.getVersion(),
+                "tierPrices", snapshot.getTierPrices(),
+                "rules", snapshot.getRuleCount());
+    }
+}
@@ -10,7 +10,11 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @Entity
-@Table(name = "event")
+@Table(name = "event", indexes = {
+        @Index(name = "idx_event_deleted_date", columnList = "deleted, event_date, event_id"),
+        @Index(name = "idx_event_venue_date", columnList = "music_venue_id, event_date"),
+        @Index(name = "idx_event_deleted_at", columnList = "deleted, deleted_at")
+})
 public class Event {
 
     @Id
@@ -30,10 +34,11 @@ public class Event {
     @Column(name = "event_price")
     private Double eventPrice;
 
-    @Column(name = "number_of_sold_tickets")
+    // written only by TicketReservationEngine, a stale Event must not overwrite it
+    @Column(name = "number_of_sold_tickets", updatable = false)
     private Integer ticketCounter;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "music_venue_id")
     private MusicVenue musicVenue;
 
@@ -43,6 +48,10 @@ public class Event {
     @OneToMany(mappedBy = "event")
     private List<Participant> participants;
 
+    @Version
+    @Column(name = "version")
+    private Integer version;
+
     @Column(name = "deleted")
     private boolean deleted;
 
@@ -0,0 +1,45 @@
+package FeelGoodApp.domain;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "event_archive")
+public class EventArchive {
+
+    @Id
+    @Column(name = "event_id")
+    private Integer id;
+
+    @Column(name = "event_name")
+    private String eventName;
+
+    @Column(name = "event_date")
+    private LocalDateTime eventDate;
+
+    @Column(name = "available_for_public")
+    private boolean availableForPublic;
+
+    @Column(name = "event_price")
+    private Double eventPrice;
+
+    @Column(name = "number_of_sold_tickets")
+    private Integer ticketCounter;
+
+    @Column(name = "music_venue_id")
+    private Integer musicVenueId;
+
+    @Column(name = "deleted")
+    private boolean deleted;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+}
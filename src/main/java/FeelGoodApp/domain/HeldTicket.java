@@ -0,0 +1,33 @@
+package FeelGoodApp.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/** An unconfirmed hold, its ticket counts as sold until the row is deleted. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "held_ticket")
+public class HeldTicket {
+
+    @Id
+    @Column(name = "hold_id")
+    private String id;
+
+    @Column(name = "event_id")
+    private Integer eventId;
+
+    @Column(name = "ticket_price")
+    private Double ticketPrice;
+
+    @Column(name = "expires_at")
+    private Long expiresAt;
+
+}
@@ -3,6 +3,8 @@ package FeelGoodApp.domain;
 import FeelGoodApp.domain.enums.VenueType;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -11,6 +13,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "music_venue")
 public class MusicVenue {
 
@@ -38,6 +41,10 @@ public class MusicVenue {
     @OneToMany(mappedBy = "musicVenue")
     private List<Event> events;
 
+    @Version
+    @Column(name = "version")
+    private Integer version;
+
     @Column(name = "deleted")
     private boolean deleted;
 
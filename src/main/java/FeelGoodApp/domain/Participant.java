@@ -2,17 +2,27 @@ package FeelGoodApp.domain;
 
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 
 @Data
 @NoArgsConstructor
 @Entity
-@Table(name = "participant")
+@Table(name = "participant", indexes = @Index(name = "idx_participant_event", columnList = "event_id"))
+// hash partitioned by event_id in MySQL (V12), the queries of the Participants should filter on the event_id column
 public class Participant {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // ids are handed out in blocks so that inserts can be batched, IDENTITY would force one insert per round trip
+    @GeneratedValue(generator = "participant_seq")
+    @GenericGenerator(name = "participant_seq", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "participant_seq"),
+                    @Parameter(name = "increment_size", value = "50"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            })
     @Column(name = "participant_id")
     private Integer id;
 
@@ -22,8 +32,12 @@ public class Participant {
     @Column(name = "participant_email")
     private String email;
 
-    @ManyToOne
-    @JoinColumn(name = "event_id")
+    @Column(name = "ticket_price")
+    private Double ticketPrice;
+
+    // no foreign key, a partitioned table cannot have one
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "event_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Event event;
 
 }
@@ -0,0 +1,33 @@
+package FeelGoodApp.domain;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "participant_archive")
+public class ParticipantArchive {
+
+    @Id
+    @Column(name = "participant_id")
+    private Integer id;
+
+    @Column(name = "participant_name")
+    private String name;
+
+    @Column(name = "participant_email")
+    private String email;
+
+    @Column(name = "ticket_price")
+    private Double ticketPrice;
+
+    @Column(name = "event_id")
+    private Integer eventId;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+}
@@ -4,6 +4,8 @@ import FeelGoodApp.domain.enums.GenreType;
 import FeelGoodApp.domain.enums.PartnerLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -12,6 +14,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "performer")
 public class Performer {
 
@@ -38,8 +41,13 @@ public class Performer {
     private PartnerLevel partnerLevel;
 
     @OneToMany(mappedBy = "performer")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     List<PerformersAtEvents> performersAtEvents;
 
+    @Version
+    @Column(name = "version")
+    private Integer version;
+
     @Column(name = "deleted")
     private boolean deleted;
 
@@ -0,0 +1,33 @@
+package FeelGoodApp.domain;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "performer_at_event_archive")
+public class PerformerAtEventArchive {
+
+    @Id
+    @Column(name = "performer_at_event_id")
+    private Integer id;
+
+    @Column(name = "event_id")
+    private Integer eventId;
+
+    @Column(name = "performer_id")
+    private Integer performerId;
+
+    @Column(name = "headliner")
+    private boolean isHeadliner;
+
+    @Column(name = "registered_at")
+    private LocalDateTime registeredAt;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+}
@@ -2,6 +2,8 @@ package FeelGoodApp.domain;
 
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -9,7 +11,11 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @Entity
-@Table(name = "performer_at_event")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "performer_at_event",
+        uniqueConstraints = @UniqueConstraint(name = "uk_performer_at_event_event_performer",
+                columnNames = {"event_id", "performer_id"}),
+        indexes = @Index(name = "idx_performer_at_event_performer_event", columnList = "performer_id, event_id"))
 public class PerformersAtEvents {
 
     @Id
@@ -17,11 +23,11 @@ public class PerformersAtEvents {
     @Column(name = "performer_at_event_id")
     private Integer id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id")
     private Event event;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "performer_id")
     private Performer performer;
 
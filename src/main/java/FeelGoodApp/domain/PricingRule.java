@@ -0,0 +1,36 @@
+package FeelGoodApp.domain;
+
+import FeelGoodApp.domain.enums.VenueType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/** Demand based price multiplier, a null venueType or maxDaysToEvent matches any. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "pricing_rule")
+public class PricingRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "pricing_rule_id")
+    private Integer id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "venue_type")
+    private VenueType venueType;
+
+    @Column(name = "min_fill_ratio")
+    private Double minFillRatio;
+
+    @Column(name = "max_days_to_event")
+    private Integer maxDaysToEvent;
+
+    @Column(name = "multiplier")
+    private Double multiplier;
+
+}
@@ -0,0 +1,25 @@
+package FeelGoodApp.domain;
+
+import FeelGoodApp.domain.enums.PartnerLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "tier_price")
+public class TierPrice {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "partner_level")
+    private PartnerLevel partnerLevel;
+
+    @Column(name = "price")
+    private Double price;
+
+}
@@ -0,0 +1,5 @@
+package FeelGoodApp.domain.enums;
+
+public enum AdmissionStatus {
+    WAITING, ADMITTED, IN_USE, USED, EXPIRED
+}
@@ -0,0 +1,15 @@
+package FeelGoodApp.domain.enums;
+
+public enum ExportFormat {
+    NDJSON("application/x-ndjson"), CSV("text/csv");
+
+    private final String mediaType;
+
+    ExportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+}
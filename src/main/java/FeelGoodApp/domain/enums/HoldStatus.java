@@ -0,0 +1,5 @@
+package FeelGoodApp.domain.enums;
+
+public enum HoldStatus {
+    HELD, CONFIRMING, CONFIRMED, RELEASED, EXPIRED
+}
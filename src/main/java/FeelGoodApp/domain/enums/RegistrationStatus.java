@@ -0,0 +1,5 @@
+package FeelGoodApp.domain.enums;
+
+public enum RegistrationStatus {
+    CREATED, INVALID, SOLD_OUT
+}
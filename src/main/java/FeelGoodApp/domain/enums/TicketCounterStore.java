@@ -0,0 +1,5 @@
+package FeelGoodApp.domain.enums;
+
+public enum TicketCounterStore {
+    MEMORY, DATABASE
+}
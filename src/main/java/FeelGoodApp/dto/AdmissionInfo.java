@@ -0,0 +1,30 @@
+package FeelGoodApp.dto;
+
+import FeelGoodApp.domain.enums.AdmissionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdmissionInfo {
+
+    @Schema(description = "Id of Event", example = "1")
+    private Integer eventId;
+
+    @Schema(description = "admission token, to be sent in the Admission-Token header of the ticket purchase",
+            example = "5f0c6c3e-8d1a-4a53-9a43-3f1e4a6b2d10")
+    private String token;
+
+    @Schema(description = "state of the admission", example = "WAITING")
+    private AdmissionStatus status;
+
+    @Schema(description = "buyers ahead in the queue, 0 once admitted", example = "1200")
+    private long position;
+
+    @Schema(description = "milliseconds to wait before the next status poll, 0 once admitted", example = "1000")
+    private long retryAfter;
+
+}
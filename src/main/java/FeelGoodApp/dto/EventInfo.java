@@ -1,8 +1,11 @@
 package FeelGoodApp.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -35,4 +38,10 @@ public class EventInfo {
 
     private List<ParticipantInfoList> participants;
 
+    // versions of the Event, its MusicVenue and its Performers, the source of the ETag
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String version;
+
 }
@@ -1,5 +1,6 @@
 package FeelGoodApp.dto;
 
+import FeelGoodApp.domain.enums.VenueType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -30,4 +31,21 @@ public class EventInfoList {
 
     private MusicVenueForEventsInfo musicVenue;
 
+    public EventInfoList(Integer id, String eventName, LocalDateTime eventDate, boolean availableForPublic,
+                         Double eventPrice, Integer ticketCounter, Integer musicVenueId, String musicVenueName,
+                         String contactPhoneNumber, String address, Integer capacity, VenueType type) {
+        this.id = id;
+        this.eventName = eventName;
+        this.eventDate = eventDate;
+        this.availableForPublic = availableForPublic;
+        this.eventPrice = eventPrice;
+        this.ticketCounter = ticketCounter;
+        this.musicVenue = new MusicVenueForEventsInfo();
+        this.musicVenue.setId(musicVenueId);
+        this.musicVenue.setName(musicVenueName);
+        this.musicVenue.setContactPhoneNumber(contactPhoneNumber);
+        this.musicVenue.setAddress(address);
+        this.musicVenue.setCapacity(capacity);
+        this.musicVenue.setType(type);
+    }
 }
@@ -0,0 +1,20 @@
+package FeelGoodApp.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventInfoPage {
+
+    private List<EventInfoList> events;
+
+    @Schema(description = "cursor of the next page, null on the last page", example = "MjAyMi0xMi0wNFQxODowMHwx")
+    private String nextCursor;
+
+}
@@ -0,0 +1,60 @@
+package FeelGoodApp.dto;
+
+import FeelGoodApp.domain.enums.VenueType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+public class EventSummaryInfo {
+
+    @Schema(description = "Id of Event", example = "1")
+    private Integer id;
+
+    @Schema(description = "name of Event", example = "Elefánt - Budapest Park")
+    private String eventName;
+
+    @Schema(description = "date of Event", example = "2022-12-04T18:00:00")
+    private LocalDateTime eventDate;
+
+    @Schema(description = "is Event available for public", example = "true")
+    private boolean availableForPublic;
+
+    @Schema(description = "price of Event", example = "5000.0")
+    private Double eventPrice;
+
+    @Schema(description = "sold tickets for Event. Not necessarily zero because of reserved tickets", example = "200")
+    private Integer ticketCounter;
+
+    private MusicVenueForEventsInfo musicVenue;
+
+    @Schema(description = "number of Performers on Event", example = "2")
+    private Long performerCount;
+
+    @Schema(description = "number of registered Participants on Event", example = "12300")
+    private Long participantCount;
+
+    public EventSummaryInfo(Integer id, String eventName, LocalDateTime eventDate, boolean availableForPublic,
+                            Double eventPrice, Integer ticketCounter, Integer musicVenueId, String musicVenueName,
+                            String contactPhoneNumber, String address, Integer capacity, VenueType type,
+                            Long performerCount, Long participantCount) {
+        this.id = id;
+        this.eventName = eventName;
+        this.eventDate = eventDate;
+        this.availableForPublic = availableForPublic;
+        this.eventPrice = eventPrice;
+        this.ticketCounter = ticketCounter;
+        this.musicVenue = new MusicVenueForEventsInfo();
+        this.musicVenue.setId(musicVenueId);
+        this.musicVenue.setName(musicVenueName);
+        this.musicVenue.setContactPhoneNumber(contactPhoneNumber);
+        this.musicVenue.setAddress(address);
+        this.musicVenue.setCapacity(capacity);
+        this.musicVenue.setType(type);
+        this.performerCount = performerCount;
+        this.participantCount = participantCount;
+    }
+}
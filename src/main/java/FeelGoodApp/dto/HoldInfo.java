@@ -0,0 +1,28 @@
+package FeelGoodApp.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoldInfo {
+
+    @Schema(description = "Id of the hold, to be confirmed with the data of the Participant",
+            example = "0b5e9a8c-51f4-4c0e-a1c5-2f6d2b0e8c11")
+    private String holdId;
+
+    @Schema(description = "Id of Event", example = "1")
+    private Integer eventId;
+
+    @Schema(description = "price of the held ticket", example = "2500.0")
+    private Double ticketPrice;
+
+    @Schema(description = "the ticket is given back if the hold is not confirmed until then", example = "2021-12-31T20:10:00")
+    private LocalDateTime expiresAt;
+
+}
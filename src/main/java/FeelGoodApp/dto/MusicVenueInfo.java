@@ -1,9 +1,12 @@
 package FeelGoodApp.dto;
 
 import FeelGoodApp.domain.enums.VenueType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Data
 @NoArgsConstructor
@@ -27,4 +30,9 @@ public class MusicVenueInfo {
     @Schema(description = "type of MusicVenue", example = "BANDSTAND")
     private VenueType type;
 
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Integer version;
+
 }
@@ -0,0 +1,28 @@
+package FeelGoodApp.dto;
+
+import FeelGoodApp.domain.enums.RegistrationStatus;
+import FeelGoodApp.exceptionhandling.ValidationError;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantBatchRowInfo {
+
+    @Schema(description = "index of the row in the request, starting from 0", example = "0")
+    private int row;
+
+    @Schema(description = "outcome of the row", example = "CREATED")
+    private RegistrationStatus status;
+
+    @Schema(description = "Id of the created Participant, null if the row is not created", example = "1")
+    private Integer participantId;
+
+    private List<ValidationError> errors;
+
+}
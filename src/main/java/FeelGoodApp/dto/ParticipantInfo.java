@@ -17,6 +17,9 @@ public class ParticipantInfo {
     @Schema(description = "email of Participant", example = "csendszab@gmail.com")
     private String email;
 
+    @Schema(description = "price of the ticket of Participant", example = "5750.0")
+    private Double ticketPrice;
+
     private EventInfoList event;
 
 }
@@ -1,11 +1,13 @@
 package FeelGoodApp.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
 @NoArgsConstructor
+@AllArgsConstructor
 public class ParticipantInfoList {
 
     @Schema(description = "Id of Participant", example = "1")
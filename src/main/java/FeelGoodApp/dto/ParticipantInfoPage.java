@@ -0,0 +1,20 @@
+package FeelGoodApp.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantInfoPage {
+
+    private List<ParticipantInfoList> participants;
+
+    @Schema(description = "cursor of the next page, null on the last page", example = "MTIz")
+    private String nextCursor;
+
+}
@@ -2,9 +2,12 @@ package FeelGoodApp.dto;
 
 import FeelGoodApp.domain.enums.GenreType;
 import FeelGoodApp.domain.enums.PartnerLevel;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.List;
 
@@ -32,4 +35,10 @@ public class PerformerInfo {
 
     private List<EventInfoList> events;
 
+    // versions and ticket counters of the Performer and its Events, the source of the ETag
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String version;
+
 }
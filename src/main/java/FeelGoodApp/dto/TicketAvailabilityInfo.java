@@ -0,0 +1,25 @@
+package FeelGoodApp.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketAvailabilityInfo {
+
+    @Schema(description = "Id of Event", example = "1")
+    private Integer eventId;
+
+    @Schema(description = "sold tickets for Event", example = "200")
+    private Integer ticketCounter;
+
+    @Schema(description = "capacity of the MusicVenue of Event", example = "4000")
+    private Integer capacity;
+
+    @Schema(description = "is Event available for public", example = "true")
+    private Boolean availableForPublic;
+
+}
@@ -0,0 +1,45 @@
+package FeelGoodApp.dto.command;
+
+import FeelGoodApp.domain.enums.GenreType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Positive;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSearchCommand {
+
+    @Positive(message = "must be positive number")
+    @Schema(description = "id of MusicVenue", example = "1")
+    private Integer musicVenueId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Events from this date (inclusive)", example = "2022-12-01T00:00:00")
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    @Schema(description = "Events before this date (exclusive)", example = "2022-12-31T00:00:00")
+    private LocalDateTime to;
+
+    @Schema(description = "genre of any Performer on Event", example = "ROCK")
+    private GenreType genre;
+
+    @Schema(description = "is Event available for public", example = "true")
+    private Boolean availableForPublic;
+
+    @Schema(description = "nextCursor of the previous page", example = "MjAyMi0xMi0wNFQxODowMHwx")
+    private String cursor;
+
+    @Positive(message = "must be positive number")
+    @Max(value = 100, message = "must be less than or equal to 100")
+    @Schema(description = "size of the page", example = "20")
+    private Integer limit;
+
+}
@@ -0,0 +1,24 @@
+package FeelGoodApp.dto.command;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Positive;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantPageCommand {
+
+    @Schema(description = "nextCursor of the previous page", example = "MTIz")
+    private String cursor;
+
+    @Positive(message = "must be positive number")
+    @Max(value = 1000, message = "must be less than or equal to 1000")
+    @Schema(description = "size of the page", example = "100")
+    private Integer limit;
+
+}
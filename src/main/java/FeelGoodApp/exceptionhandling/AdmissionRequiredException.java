@@ -0,0 +1,13 @@
+package FeelGoodApp.exceptionhandling;
+
+public class AdmissionRequiredException extends RuntimeException {
+    private int eventId;
+
+    public AdmissionRequiredException(int eventId) {
+        this.eventId = eventId;
+    }
+
+    public int getEventId() {
+        return eventId;
+    }
+}
@@ -0,0 +1,13 @@
+package FeelGoodApp.exceptionhandling;
+
+public class AdmissionTokenNotFoundException extends RuntimeException {
+    private String token;
+
+    public AdmissionTokenNotFoundException(String token) {
+        this.token = token;
+    }
+
+    public String getToken() {
+        return token;
+    }
+}
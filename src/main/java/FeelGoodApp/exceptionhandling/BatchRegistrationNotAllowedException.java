@@ -0,0 +1,13 @@
+package FeelGoodApp.exceptionhandling;
+
+public class BatchRegistrationNotAllowedException extends RuntimeException {
+    private int eventId;
+
+    public BatchRegistrationNotAllowedException(int eventId) {
+        this.eventId = eventId;
+    }
+
+    public int getEventId() {
+        return eventId;
+    }
+}
@@ -0,0 +1,13 @@
+package FeelGoodApp.exceptionhandling;
+
+public class ConcurrentUpdateException extends RuntimeException {
+    private String operation;
+
+    public ConcurrentUpdateException(String operation) {
+        this.operation = operation;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+}
@@ -2,6 +2,7 @@ package FeelGoodApp.exceptionhandling;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -20,6 +21,35 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(validationErrors, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<List<ValidationError>> handleBindException(BindException exception) {
+        List<ValidationError> validationErrors = exception.getBindingResult().getFieldErrors().stream()
+                .map(fieldError -> new ValidationError(fieldError.getField(), fieldError.getDefaultMessage()))
+                .collect(Collectors.toList());
+        return new ResponseEntity<>(validationErrors, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<List<ValidationError>> handleInvalidCursor(InvalidCursorException exception) {
+        ValidationError validationError = new ValidationError("cursor",
+                "Cursor " + exception.getCursor() + " is not valid.");
+        return new ResponseEntity<>(List.of(validationError), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ParticipantBatchTooLargeException.class)
+    public ResponseEntity<List<ValidationError>> handleParticipantBatchTooLarge(ParticipantBatchTooLargeException exception) {
+        ValidationError validationError = new ValidationError("participants",
+                "A batch can contain at most " + exception.getMaxBatchSize() + " participants.");
+        return new ResponseEntity<>(List.of(validationError), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidNdjsonLineException.class)
+    public ResponseEntity<List<ValidationError>> handleInvalidNdjsonLine(InvalidNdjsonLineException exception) {
+        ValidationError validationError = new ValidationError("participants",
+                "Line " + exception.getLineNumber() + " is not a valid participant.");
+        return new ResponseEntity<>(List.of(validationError), HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(MusicVenueNotFoundException.class)
     public ResponseEntity<List<ValidationError>> handleMusicVenueNotFound(MusicVenueNotFoundException exception) {
         ValidationError validationError = new ValidationError("musicVenueId",
@@ -99,4 +129,48 @@ public class GlobalExceptionHandler {
                 "Event with id " + exception.getIdFound() + " is a past event.");
         return new ResponseEntity<>(List.of(validationError), HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<List<ValidationError>> handleConcurrentUpdate(ConcurrentUpdateException exception) {
+        ValidationError validationError = new ValidationError("version",
+                "Too many concurrent updates during " + exception.getOperation() + ". Try again later.");
+        return new ResponseEntity<>(List.of(validationError), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(AdmissionRequiredException.class)
+    public ResponseEntity<List<ValidationError>> handleAdmissionRequired(AdmissionRequiredException exception) {
+        ValidationError validationError = new ValidationError("Admission-Token",
+                "Event with id " + exception.getEventId() + " is sold through the waiting room. " +
+                        "Join the queue and buy the ticket with an admitted token.");
+        return new ResponseEntity<>(List.of(validationError), HttpStatus.FORBIDDEN);
+    }
+
+    @ExceptionHandler(BatchRegistrationNotAllowedException.class)
+    public ResponseEntity<List<ValidationError>> handleBatchRegistrationNotAllowed(BatchRegistrationNotAllowedException exception) {
+        ValidationError validationError = new ValidationError("eventId",
+                "Event with id " + exception.getEventId() + " is sold through the waiting room. " +
+                        "Its tickets cannot be registered in a batch.");
+        return new ResponseEntity<>(List.of(validationError), HttpStatus.FORBIDDEN);
+    }
+
+    @ExceptionHandler(WaitingRoomFullException.class)
+    public ResponseEntity<List<ValidationError>> handleWaitingRoomFull(WaitingRoomFullException exception) {
+        ValidationError validationError = new ValidationError("eventId",
+                "The waiting room of Event with id " + exception.getEventId() + " is full. Try again later.");
+        return new ResponseEntity<>(List.of(validationError), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(AdmissionTokenNotFoundException.class)
+    public ResponseEntity<List<ValidationError>> handleAdmissionTokenNotFound(AdmissionTokenNotFoundException exception) {
+        ValidationError validationError = new ValidationError("token",
+                "Admission token " + exception.getToken() + " is not found.");
+        return new ResponseEntity<>(List.of(validationError), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(HoldNotFoundException.class)
+    public ResponseEntity<List<ValidationError>> handleHoldNotFound(HoldNotFoundException exception) {
+        ValidationError validationError = new ValidationError("holdId",
+                "Hold with id " + exception.getHoldId() + " is not found or it is expired.");
+        return new ResponseEntity<>(List.of(validationError), HttpStatus.BAD_REQUEST);
+    }
 }
@@ -0,0 +1,13 @@
+package FeelGoodApp.exceptionhandling;
+
+public class HoldNotFoundException extends RuntimeException {
+    private String holdId;
+
+    public HoldNotFoundException(String holdId) {
+        this.holdId = holdId;
+    }
+
+    public String getHoldId() {
+        return holdId;
+    }
+}
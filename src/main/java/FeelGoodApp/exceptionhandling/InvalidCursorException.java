@@ -0,0 +1,13 @@
+package FeelGoodApp.exceptionhandling;
+
+public class InvalidCursorException extends RuntimeException {
+    private String cursor;
+
+    public InvalidCursorException(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+}
@@ -0,0 +1,13 @@
+package FeelGoodApp.exceptionhandling;
+
+public class InvalidNdjsonLineException extends RuntimeException {
+    private int lineNumber;
+
+    public InvalidNdjsonLineException(int lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+}
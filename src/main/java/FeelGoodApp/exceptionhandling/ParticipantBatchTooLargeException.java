@@ -0,0 +1,13 @@
+package FeelGoodApp.exceptionhandling;
+
+public class ParticipantBatchTooLargeException extends RuntimeException {
+    private int maxBatchSize;
+
+    public ParticipantBatchTooLargeException(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+}
@@ -0,0 +1,13 @@
+package FeelGoodApp.exceptionhandling;
+
+public class WaitingRoomFullException extends RuntimeException {
+    private int eventId;
+
+    public WaitingRoomFullException(int eventId) {
+        this.eventId = eventId;
+    }
+
+    public int getEventId() {
+        return eventId;
+    }
+}
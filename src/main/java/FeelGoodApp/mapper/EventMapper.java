@@ -0,0 +1,56 @@
+package FeelGoodApp.mapper;
+
+import FeelGoodApp.domain.Event;
+import FeelGoodApp.domain.Performer;
+import FeelGoodApp.domain.PerformersAtEvents;
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.EventInfoList;
+import FeelGoodApp.dto.PerformerInfoList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class EventMapper {
+
+    private EventMapper() {
+    }
+
+    public static EventInfo toEventInfo(Event event) {
+        EventInfo eventInfo = new EventInfo();
+        eventInfo.setId(event.getId());
+        eventInfo.setEventName(event.getEventName());
+        eventInfo.setEventDate(event.getEventDate());
+        eventInfo.setAvailableForPublic(event.isAvailableForPublic());
+        eventInfo.setEventPrice(event.getEventPrice());
+        eventInfo.setTicketCounter(event.getTicketCounter());
+        eventInfo.setMusicVenue(MusicVenueMapper.toMusicVenueForEventsInfo(event.getMusicVenue()));
+
+        List<PerformersAtEvents> performersAtEvents = event.getPerformersAtEvents();
+        List<PerformerInfoList> performers = new ArrayList<>(performersAtEvents.size());
+        StringBuilder version = new StringBuilder().append(event.getVersion());
+        if (event.getMusicVenue() != null) {
+            version.append('/').append(event.getMusicVenue().getVersion());
+        }
+        for (PerformersAtEvents performersAtEvent : performersAtEvents) {
+            Performer performer = performersAtEvent.getPerformer();
+            performers.add(PerformerMapper.toPerformerInfoList(performer));
+            version.append('/').append(performer.getId()).append(':').append(performer.getVersion());
+        }
+        eventInfo.setPerformers(performers);
+        eventInfo.setParticipants(ParticipantMapper.toParticipantInfoLists(event.getParticipants()));
+        eventInfo.setVersion(version.toString());
+        return eventInfo;
+    }
+
+    public static EventInfoList toEventInfoList(Event event) {
+        EventInfoList eventInfoList = new EventInfoList();
+        eventInfoList.setId(event.getId());
+        eventInfoList.setEventName(event.getEventName());
+        eventInfoList.setEventDate(event.getEventDate());
+        eventInfoList.setAvailableForPublic(event.isAvailableForPublic());
+        eventInfoList.setEventPrice(event.getEventPrice());
+        eventInfoList.setTicketCounter(event.getTicketCounter());
+        eventInfoList.setMusicVenue(MusicVenueMapper.toMusicVenueForEventsInfo(event.getMusicVenue()));
+        return eventInfoList;
+    }
+}
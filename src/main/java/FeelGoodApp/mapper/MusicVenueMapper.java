@@ -0,0 +1,48 @@
+package FeelGoodApp.mapper;
+
+import FeelGoodApp.domain.MusicVenue;
+import FeelGoodApp.dto.MusicVenueForEventsInfo;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.command.MusicVenueCreateCommand;
+
+public final class MusicVenueMapper {
+
+    private MusicVenueMapper() {
+    }
+
+    public static MusicVenue toMusicVenue(MusicVenueCreateCommand command) {
+        MusicVenue musicVenue = new MusicVenue();
+        musicVenue.setName(command.getName());
+        musicVenue.setContactPhoneNumber(command.getContactPhoneNumber());
+        musicVenue.setAddress(command.getAddress());
+        musicVenue.setCapacity(command.getCapacity());
+        musicVenue.setType(command.getType());
+        return musicVenue;
+    }
+
+    public static MusicVenueInfo toMusicVenueInfo(MusicVenue musicVenue) {
+        MusicVenueInfo musicVenueInfo = new MusicVenueInfo();
+        musicVenueInfo.setId(musicVenue.getId());
+        musicVenueInfo.setName(musicVenue.getName());
+        musicVenueInfo.setContactPhoneNumber(musicVenue.getContactPhoneNumber());
+        musicVenueInfo.setAddress(musicVenue.getAddress());
+        musicVenueInfo.setCapacity(musicVenue.getCapacity());
+        musicVenueInfo.setType(musicVenue.getType());
+        musicVenueInfo.setVersion(musicVenue.getVersion());
+        return musicVenueInfo;
+    }
+
+    public static MusicVenueForEventsInfo toMusicVenueForEventsInfo(MusicVenue musicVenue) {
+        if (musicVenue == null) {
+            return null;
+        }
+        MusicVenueForEventsInfo musicVenueInfo = new MusicVenueForEventsInfo();
+        musicVenueInfo.setId(musicVenue.getId());
+        musicVenueInfo.setName(musicVenue.getName());
+        musicVenueInfo.setContactPhoneNumber(musicVenue.getContactPhoneNumber());
+        musicVenueInfo.setAddress(musicVenue.getAddress());
+        musicVenueInfo.setCapacity(musicVenue.getCapacity());
+        musicVenueInfo.setType(musicVenue.getType());
+        return musicVenueInfo;
+    }
+}
@@ -0,0 +1,50 @@
+package FeelGoodApp.mapper;
+
+import FeelGoodApp.domain.Participant;
+import FeelGoodApp.dto.ParticipantInfo;
+import FeelGoodApp.dto.ParticipantInfoList;
+import FeelGoodApp.dto.command.ParticipantCreateCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ParticipantMapper {
+
+    private ParticipantMapper() {
+    }
+
+    public static Participant toParticipant(ParticipantCreateCommand command) {
+        Participant participant = new Participant();
+        participant.setName(command.getName());
+        participant.setEmail(command.getEmail());
+        return participant;
+    }
+
+    public static ParticipantInfo toParticipantInfo(Participant participant) {
+        ParticipantInfo participantInfo = new ParticipantInfo();
+        participantInfo.setId(participant.getId());
+        participantInfo.setName(participant.getName());
+        participantInfo.setEmail(participant.getEmail());
+        participantInfo.setTicketPrice(participant.getTicketPrice());
+        if (participant.getEvent() != null) {
+            participantInfo.setEvent(EventMapper.toEventInfoList(participant.getEvent()));
+        }
+        return participantInfo;
+    }
+
+    public static ParticipantInfoList toParticipantInfoList(Participant participant) {
+        ParticipantInfoList participantInfoList = new ParticipantInfoList();
+        participantInfoList.setId(participant.getId());
+        participantInfoList.setName(participant.getName());
+        participantInfoList.setEmail(participant.getEmail());
+        return participantInfoList;
+    }
+
+    public static List<ParticipantInfoList> toParticipantInfoLists(List<Participant> participants) {
+        List<ParticipantInfoList> participantInfoLists = new ArrayList<>(participants.size());
+        for (Participant participant : participants) {
+            participantInfoLists.add(toParticipantInfoList(participant));
+        }
+        return participantInfoLists;
+    }
+}
@@ -0,0 +1,65 @@
+package FeelGoodApp.mapper;
+
+import FeelGoodApp.domain.Event;
+import FeelGoodApp.domain.Performer;
+import FeelGoodApp.domain.PerformersAtEvents;
+import FeelGoodApp.dto.EventInfoList;
+import FeelGoodApp.dto.PerformerInfo;
+import FeelGoodApp.dto.PerformerInfoList;
+import FeelGoodApp.dto.command.PerformerCreateCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class PerformerMapper {
+
+    private PerformerMapper() {
+    }
+
+    public static Performer toPerformer(PerformerCreateCommand command) {
+        Performer performer = new Performer();
+        performer.setName(command.getName());
+        performer.setEmail(command.getEmail());
+        performer.setContactPhoneNumber(command.getContactPhoneNumber());
+        performer.setGenre(command.getGenre());
+        performer.setPartnerLevel(command.getPartnerLevel());
+        return performer;
+    }
+
+    public static PerformerInfo toPerformerInfo(Performer performer) {
+        PerformerInfo performerInfo = new PerformerInfo();
+        performerInfo.setId(performer.getId());
+        performerInfo.setName(performer.getName());
+        performerInfo.setEmail(performer.getEmail());
+        performerInfo.setContactPhoneNumber(performer.getContactPhoneNumber());
+        performerInfo.setGenre(performer.getGenre());
+        performerInfo.setPartnerLevel(performer.getPartnerLevel());
+
+        List<PerformersAtEvents> performersAtEvents = performer.getPerformersAtEvents();
+        List<EventInfoList> events = new ArrayList<>(performersAtEvents.size());
+        StringBuilder version = new StringBuilder().append(performer.getVersion());
+        for (PerformersAtEvents performersAtEvent : performersAtEvents) {
+            Event event = performersAtEvent.getEvent();
+            if (!event.isDeleted()) {
+                events.add(EventMapper.toEventInfoList(event));
+                version.append('/').append(event.getId()).append(':').append(event.getVersion())
+                        .append(':').append(event.getTicketCounter())
+                        .append(':').append(event.getMusicVenue() == null ? null : event.getMusicVenue().getVersion());
+            }
+        }
+        performerInfo.setEvents(events);
+        performerInfo.setVersion(version.toString());
+        return performerInfo;
+    }
+
+    public static PerformerInfoList toPerformerInfoList(Performer performer) {
+        PerformerInfoList performerInfoList = new PerformerInfoList();
+        performerInfoList.setId(performer.getId());
+        performerInfoList.setName(performer.getName());
+        performerInfoList.setEmail(performer.getEmail());
+        performerInfoList.setContactPhoneNumber(performer.getContactPhoneNumber());
+        performerInfoList.setGenre(performer.getGenre());
+        performerInfoList.setPartnerLevel(performer.getPartnerLevel());
+        return performerInfoList;
+    }
+}
@@ -0,0 +1,94 @@
+package FeelGoodApp.repository;
+
+import FeelGoodApp.domain.Event;
+import FeelGoodApp.domain.Participant;
+import FeelGoodApp.domain.PerformersAtEvents;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class ArchiveRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<Integer> findArchivableEventIds(LocalDateTime cutoff, int limit) {
+        return entityManager.createQuery("SELECT e.id FROM Event e " +
+                        "WHERE (e.deleted = true AND e.deletedAt < :cutoffParam) " +
+                        "OR (e.deleted = false AND e.eventDate < :cutoffParam) " +
+                        "ORDER BY e.id", Integer.class)
+                .setParameter("cutoffParam", cutoff)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public List<Integer> findPerformerIdsOfEvents(List<Integer> eventIds) {
+        return entityManager.createQuery("SELECT DISTINCT p.performer.id FROM PerformersAtEvents p " +
+                        "WHERE p.event.id IN :eventParam", Integer.class)
+                .setParameter("eventParam", eventIds)
+                .getResultList();
+    }
+
+    public List<Integer> findParticipantIdsOfEvents(List<Integer> eventIds, int limit) {
+        return entityManager.createQuery("SELECT p.id FROM Participant p " +
+                        "WHERE p.event.id IN :eventParam " +
+                        "ORDER BY p.id", Integer.class)
+                .setParameter("eventParam", eventIds)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public int archiveParticipants(List<Integer> eventIds, List<Integer> participantIds, LocalDateTime archivedAt) {
+        execute("INSERT INTO participant_archive " +
+                "(participant_id, participant_name, participant_email, ticket_price, event_id, archived_at) " +
+                "SELECT participant_id, participant_name, participant_email, ticket_price, event_id, :archivedParam " +
+                "FROM participant WHERE event_id IN (:eventParam) AND participant_id IN (:participantParam)",
+                eventIds, participantIds, archivedAt);
+        return execute("DELETE FROM participant " +
+                "WHERE event_id IN (:eventParam) AND participant_id IN (:participantParam)",
+                eventIds, participantIds, null);
+    }
+
+    public int archiveEvents(List<Integer> eventIds, LocalDateTime archivedAt) {
+        execute("INSERT INTO participant_archive " +
+                "(participant_id, participant_name, participant_email, ticket_price, event_id, archived_at) " +
+                "SELECT participant_id, participant_name, participant_email, ticket_price, event_id, :archivedParam " +
+                "FROM participant WHERE event_id IN (:eventParam)", eventIds, null, archivedAt);
+        execute("INSERT INTO performer_at_event_archive " +
+                "(performer_at_event_id, event_id, performer_id, headliner, registered_at, archived_at) " +
+                "SELECT performer_at_event_id, event_id, performer_id, headliner, registered_at, :archivedParam " +
+                "FROM performer_at_event WHERE event_id IN (:eventParam)", eventIds, null, archivedAt);
+        execute("INSERT INTO event_archive " +
+                "(event_id, event_name, event_date, available_for_public, event_price, number_of_sold_tickets, " +
+                "music_venue_id, deleted, deleted_at, archived_at) " +
+                "SELECT event_id, event_name, event_date, available_for_public, event_price, number_of_sold_tickets, " +
+                "music_venue_id, deleted, deleted_at, :archivedParam " +
+                "FROM event WHERE event_id IN (:eventParam)", eventIds, null, archivedAt);
+
+        execute("DELETE FROM participant WHERE event_id IN (:eventParam)", eventIds, null, null);
+        execute("DELETE FROM performer_at_event WHERE event_id IN (:eventParam)", eventIds, null, null);
+        return execute("DELETE FROM event WHERE event_id IN (:eventParam)", eventIds, null, null);
+    }
+
+    // the synchronized classes limit the second-level cache eviction to the regions of the changed tables
+    private int execute(String sql, List<Integer> eventIds, List<Integer> participantIds, LocalDateTime archivedAt) {
+        NativeQuery<?> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Event.class)
+                .addSynchronizedEntityClass(PerformersAtEvents.class)
+                .addSynchronizedEntityClass(Participant.class)
+                .setParameter("eventParam", eventIds);
+        if (participantIds != null) {
+            query.setParameter("participantParam", participantIds);
+        }
+        if (archivedAt != null) {
+            query.setParameter("archivedParam", archivedAt);
+        }
+        return query.executeUpdate();
+    }
+}
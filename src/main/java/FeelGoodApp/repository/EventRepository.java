@@ -1,42 +1,252 @@
 package FeelGoodApp.repository;
 
 import FeelGoodApp.domain.Event;
+import FeelGoodApp.domain.enums.PartnerLevel;
+import FeelGoodApp.dto.EventInfoList;
+import FeelGoodApp.dto.EventSummaryInfo;
+import FeelGoodApp.dto.command.EventSearchCommand;
+import org.hibernate.Session;
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public class EventRepository {
 
+    // the version is assigned before the availability it reads, MySQL evaluates the assignments from left to right
+    private static final String REOPEN = "version = CASE WHEN available_for_public = false " +
+            "THEN (version + 1) ELSE version END, available_for_public = true, ";
+
+    private static final String TICKET_COUNTER_SPACE = "event_ticket_counter";
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Value("${export.fetch_size}")
+    private Integer exportFetchSize;
+
     public Event saveEvent(Event toSave) {
         entityManager.persist(toSave);
         return toSave;
     }
 
-    public List<Event> findAllEvents() {
-        return entityManager.createQuery("SELECT e " +
-                "FROM Event e " +
-                "WHERE e.deleted = false", Event.class).getResultList();
+    public List<EventInfoList> findEventsPage(EventSearchCommand search, LocalDateTime afterDate, Integer afterId,
+                                              int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT new FeelGoodApp.dto.EventInfoList(" +
+                "e.id, e.eventName, e.eventDate, e.availableForPublic, e.eventPrice, e.ticketCounter, " +
+                "m.id, m.name, m.contactPhoneNumber, m.address, m.capacity, m.type) " +
+                "FROM Event e JOIN e.musicVenue m " +
+                "WHERE e.deleted = false ");
+        if (search.getMusicVenueId() != null) {
+            jpql.append("AND m.id = :venueParam ");
+        }
+        if (search.getFrom() != null) {
+            jpql.append("AND e.eventDate >= :fromParam ");
+        }
+        if (search.getTo() != null) {
+            jpql.append("AND e.eventDate < :toParam ");
+        }
+        if (search.getAvailableForPublic() != null) {
+            jpql.append("AND e.availableForPublic = :publicParam ");
+        }
+        if (search.getGenre() != null) {
+            jpql.append("AND EXISTS (SELECT p.id FROM PerformersAtEvents p " +
+                    "WHERE p.event = e AND p.performer.genre = :genreParam) ");
+        }
+        if (afterDate != null) {
+            jpql.append("AND (e.eventDate > :afterDateParam " +
+                    "OR (e.eventDate = :afterDateParam AND e.id > :afterIdParam)) ");
+        }
+        jpql.append("ORDER BY e.eventDate, e.id");
+
+        TypedQuery<EventInfoList> query = entityManager.createQuery(jpql.toString(), EventInfoList.class);
+        if (search.getMusicVenueId() != null) {
+            query.setParameter("venueParam", search.getMusicVenueId());
+        }
+        if (search.getFrom() != null) {
+            query.setParameter("fromParam", search.getFrom());
+        }
+        if (search.getTo() != null) {
+            query.setParameter("toParam", search.getTo());
+        }
+        if (search.getAvailableForPublic() != null) {
+            query.setParameter("publicParam", search.getAvailableForPublic());
+        }
+        if (search.getGenre() != null) {
+            query.setParameter("genreParam", search.getGenre());
+        }
+        if (afterDate != null) {
+            query.setParameter("afterDateParam", afterDate);
+            query.setParameter("afterIdParam", afterId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    public Stream<EventInfoList> streamEvents() {
+        return entityManager.createQuery("SELECT new FeelGoodApp.dto.EventInfoList(" +
+                        "e.id, e.eventName, e.eventDate, e.availableForPublic, e.eventPrice, e.ticketCounter, " +
+                        "m.id, m.name, m.contactPhoneNumber, m.address, m.capacity, m.type) " +
+                        "FROM Event e JOIN e.musicVenue m " +
+                        "WHERE e.deleted = false " +
+                        "ORDER BY e.eventDate, e.id", EventInfoList.class)
+                .setHint(QueryHints.FETCH_SIZE, exportFetchSize)
+                .setHint(QueryHints.READ_ONLY, true)
+                .getResultStream();
+    }
+
+    public List<Integer> findActiveEventIds() {
+        return entityManager.createQuery("SELECT e.id FROM Event e WHERE e.deleted = false ORDER BY e.id",
+                        Integer.class)
+                .getResultList();
+    }
+
+    public List<Integer> findOnSaleEventIdsByHeadlinerLevels(List<PartnerLevel> partnerLevels) {
+        return entityManager.createQuery("SELECT pae.event.id FROM PerformersAtEvents pae " +
+                                "WHERE pae.isHeadliner = true AND pae.performer.partnerLevel IN :partnerLevels " +
+                                "AND pae.event.deleted = false AND pae.event.availableForPublic = true " +
+                                "ORDER BY pae.event.id",
+                        Integer.class)
+                .setParameter("partnerLevels", partnerLevels)
+                .getResultList();
     }
 
     public Optional<Event> findEventById(Integer eventId) {
         return Optional.ofNullable(entityManager.find(Event.class, eventId));
     }
 
+    public Optional<EventSummaryInfo> findEventSummaryById(Integer eventId) {
+        return entityManager.createQuery("SELECT new FeelGoodApp.dto.EventSummaryInfo(" +
+                        "e.id, e.eventName, e.eventDate, e.availableForPublic, e.eventPrice, e.ticketCounter, " +
+                        "m.id, m.name, m.contactPhoneNumber, m.address, m.capacity, m.type, " +
+                        "(SELECT COUNT(pe) FROM PerformersAtEvents pe WHERE pe.event.id = :paramId), " +
+                        "(SELECT COUNT(pa) FROM Participant pa WHERE pa.event.id = :paramId)) " +
+                        "FROM Event e JOIN e.musicVenue m " +
+                        "WHERE e.id = :paramId AND e.deleted = false", EventSummaryInfo.class)
+                .setParameter("paramId", eventId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    public Optional<Event> findEventWithPerformersAndParticipantsById(Integer eventId) {
+        List<Event> events = entityManager.createQuery("SELECT DISTINCT e " +
+                        "FROM Event e JOIN FETCH e.musicVenue " +
+                        "LEFT JOIN FETCH e.performersAtEvents p LEFT JOIN FETCH p.performer " +
+                        "WHERE e.id = :paramId", Event.class)
+                .setParameter("paramId", eventId)
+                .setHint(QueryHints.PASS_DISTINCT_THROUGH, false)
+                .getResultList();
+        if (events.isEmpty()) {
+            return Optional.empty();
+        }
+        // second bag in a separate query, it initializes the collection of the already managed Event
+        entityManager.createQuery("SELECT DISTINCT e " +
+                        "FROM Event e LEFT JOIN FETCH e.participants " +
+                        "WHERE e.id = :paramId", Event.class)
+                .setParameter("paramId", eventId)
+                .setHint(QueryHints.PASS_DISTINCT_THROUGH, false)
+                .getResultList();
+        return Optional.of(events.get(0));
+    }
+
     public Event modifyEventDate(Event toUpdate) {
         Event updated = entityManager.merge(toUpdate);
         return updated;
     }
 
+    public void updateTicketCounter(Integer eventId, int ticketCounter, boolean soldOut) {
+        eventUpdate("UPDATE event " +
+                        "SET " + (soldOut
+                        ? "available_for_public = false, version = version + 1, "
+                        : REOPEN) +
+                        "number_of_sold_tickets = :counterParam " +
+                        "WHERE event_id = :paramId AND deleted = false", eventId)
+                .setParameter("counterParam", ticketCounter)
+                .executeUpdate();
+    }
+
+    /** Sells the tickets in a single guarded statement, returns zero if they do not fit. */
+    public int reserveTickets(Event event, int count) {
+        Session session = entityManager.unwrap(Session.class);
+        int sold = session.doReturningWork(connection -> {
+            String capacity = "(SELECT m.music_venue_capacity FROM music_venue m WHERE m.music_venue_id = e.music_venue_id)";
+            String soldOut = "e.number_of_sold_tickets + ? >= " + capacity;
+            String counter = "e.number_of_sold_tickets + ?";
+            boolean mySql = "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+            String sql = "UPDATE event e " +
+                    "SET version = CASE WHEN " + soldOut + " THEN (e.version + 1) ELSE e.version END, " +
+                    "available_for_public = CASE WHEN " + soldOut + " THEN false ELSE true END, " +
+                    "number_of_sold_tickets = " + (mySql ? "LAST_INSERT_ID(" + counter + ")" : counter) + " " +
+                    "WHERE e.event_id = ? AND e.available_for_public = true AND e.deleted = false " +
+                    "AND e.number_of_sold_tickets + ? <= " + capacity;
+            try (PreparedStatement statement = connection.prepareStatement(sql, new String[]{"number_of_sold_tickets"})) {
+                statement.setInt(1, count);
+                statement.setInt(2, count);
+                statement.setInt(3, count);
+                statement.setInt(4, event.getId());
+                statement.setInt(5, count);
+                if (statement.executeUpdate() == 0) {
+                    return 0;
+                }
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    if (!keys.next()) {
+                        throw new IllegalStateException("No ticket counter returned for Event " + event.getId());
+                    }
+                    return keys.getInt(1);
+                }
+            }
+        });
+        if (sold > 0) {
+            session.setReadOnly(event, true);
+        }
+        return sold;
+    }
+
+    public void releaseTickets(Integer eventId, int count) {
+        eventUpdate("UPDATE event " +
+                        "SET " + REOPEN + "number_of_sold_tickets = number_of_sold_tickets - :countParam " +
+                        "WHERE event_id = :paramId AND deleted = false", eventId)
+                .setParameter("countParam", count)
+                .executeUpdate();
+    }
+
+    public int findRemainingTickets(Integer eventId) {
+        return entityManager.createQuery("SELECT m.capacity - e.ticketCounter " +
+                        "FROM Event e JOIN e.musicVenue m " +
+                        "WHERE e.id = :paramId AND e.availableForPublic = true AND e.deleted = false", Integer.class)
+                .setParameter("paramId", eventId)
+                .getResultStream()
+                .findFirst()
+                .orElse(0);
+    }
+
+    public int countParticipants(Integer eventId) {
+        return entityManager.createQuery("SELECT COUNT(p) FROM Participant p WHERE p.event.id = :paramId", Long.class)
+                .setParameter("paramId", eventId)
+                .getSingleResult()
+                .intValue();
+    }
+
     public void deleteEvent(Event event) {
         event.setDeletedAt(LocalDateTime.now());
         event.setDeleted(true);
     }
+
+    // the query space matches no entity, so the statement evicts no second-level cache region
+    private NativeQuery<?> eventUpdate(String sql, Integer eventId) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(TICKET_COUNTER_SPACE)
+                .setParameter("paramId", eventId);
+    }
 }
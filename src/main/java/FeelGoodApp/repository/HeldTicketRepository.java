@@ -0,0 +1,31 @@
+package FeelGoodApp.repository;
+
+import FeelGoodApp.domain.HeldTicket;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+@Repository
+public class HeldTicketRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public HeldTicket saveHeldTicket(HeldTicket toSave) {
+        entityManager.persist(toSave);
+        return toSave;
+    }
+
+    public List<HeldTicket> findAllHeldTickets() {
+        return entityManager.createQuery("SELECT h FROM HeldTicket h", HeldTicket.class)
+                .getResultList();
+    }
+
+    public boolean deleteHeldTicket(String holdId) {
+        return entityManager.createQuery("DELETE FROM HeldTicket h WHERE h.id = :paramId")
+                .setParameter("paramId", holdId)
+                .executeUpdate() == 1;
+    }
+}
@@ -0,0 +1,68 @@
+package FeelGoodApp.repository;
+
+import lombok.Getter;
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.Type;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Map;
+
+/** Counts the SQL statements, entity loads and flushes on the thread of the current request. */
+@Component
+public class HibernateRequestStatistics extends EmptyInterceptor implements HibernatePropertiesCustomizer {
+
+    private final transient ThreadLocal<Counts> counts = new ThreadLocal<>();
+
+    public void begin() {
+        counts.set(new Counts());
+    }
+
+    public Counts end() {
+        Counts result = counts.get();
+        counts.remove();
+        return result;
+    }
+
+    @Override
+    public String onPrepareStatement(String sql) {
+        Counts current = counts.get();
+        if (current != null) {
+            current.statements++;
+        }
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Serializable id, Object[] state, String[] propertyNames, Type[] types) {
+        Counts current = counts.get();
+        if (current != null) {
+            current.entityLoads++;
+        }
+        return false;
+    }
+
+    @Override
+    public void preFlush(Iterator entities) {
+        Counts current = counts.get();
+        if (current != null) {
+            current.flushes++;
+        }
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.INTERCEPTOR, this);
+    }
+
+    @Getter
+    public static class Counts {
+
+        private int statements;
+        private int entityLoads;
+        private int flushes;
+    }
+}
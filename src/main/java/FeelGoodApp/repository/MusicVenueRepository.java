@@ -2,6 +2,7 @@ package FeelGoodApp.repository;
 
 import FeelGoodApp.domain.Event;
 import FeelGoodApp.domain.MusicVenue;
+import org.hibernate.annotations.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
@@ -27,10 +28,12 @@ public class MusicVenueRepository {
 
     public List<MusicVenue> findALlMusicVenues() {
         return entityManager.createQuery("SELECT m FROM MusicVenue m " +
-                "WHERE m.deleted = false ", MusicVenue.class).getResultList();
+                        "WHERE m.deleted = false ", MusicVenue.class)
+                .setHint(QueryHints.CACHEABLE, true)
+                .getResultList();
     }
 
-    public void deleteMusicVenue(MusicVenue musicVenue) {
+    public List<Event> deleteMusicVenue(MusicVenue musicVenue) {
         List<Event> futureEventsByMusicVenue = entityManager.createQuery("SELECT e FROM MusicVenue m " +
                         "JOIN m.events e " +
                         "WHERE m.id = :paramId AND e.deleted = false AND e.eventDate > :paramDate ", Event.class)
@@ -44,5 +47,6 @@ public class MusicVenueRepository {
             event.setDeleted(true);
             event.setDeletedAt(LocalDateTime.now());
         }
+        return futureEventsByMusicVenue;
     }
 }
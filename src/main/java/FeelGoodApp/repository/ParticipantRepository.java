@@ -1,11 +1,16 @@
 package FeelGoodApp.repository;
 
 import FeelGoodApp.domain.Participant;
+import FeelGoodApp.dto.ParticipantInfoList;
+import org.hibernate.annotations.QueryHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public class ParticipantRepository {
@@ -13,15 +18,56 @@ public class ParticipantRepository {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private Integer batchSize;
+
+    @Value("${export.fetch_size}")
+    private Integer exportFetchSize;
 
     public Participant saveParticipant(Participant toSave) {
         entityManager.persist(toSave);
         return toSave;
     }
 
+    public List<Participant> saveParticipants(List<Participant> toSave) {
+        for (int i = 0; i < toSave.size(); i++) {
+            entityManager.persist(toSave.get(i));
+            if ((i + 1) % batchSize == 0 || i == toSave.size() - 1) {
+                entityManager.flush();
+                toSave.subList(i - i % batchSize, i + 1).forEach(entityManager::detach);
+            }
+        }
+        return toSave;
+    }
+
+    public Stream<ParticipantInfoList> streamParticipantsByEvent(Integer eventId) {
+        return entityManager.createQuery("SELECT new FeelGoodApp.dto.ParticipantInfoList(p.id, p.name, p.email) " +
+                        "FROM Participant p JOIN p.event e " +
+                        "WHERE p.event.id = :paramId AND e.deleted = false " +
+                        "ORDER BY p.id", ParticipantInfoList.class)
+                .setParameter("paramId", eventId)
+                .setHint(QueryHints.FETCH_SIZE, exportFetchSize)
+                .setHint(QueryHints.READ_ONLY, true)
+                .getResultStream();
+    }
+
+    public List<ParticipantInfoList> findParticipantsPage(Integer eventId, Integer afterId, int limit) {
+        TypedQuery<ParticipantInfoList> query = entityManager.createQuery(
+                        "SELECT new FeelGoodApp.dto.ParticipantInfoList(p.id, p.name, p.email) " +
+                                "FROM Participant p " +
+                                "WHERE p.event.id = :paramId " +
+                                (afterId == null ? "" : "AND p.id > :afterIdParam ") +
+                                "ORDER BY p.id", ParticipantInfoList.class)
+                .setParameter("paramId", eventId);
+        if (afterId != null) {
+            query.setParameter("afterIdParam", afterId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
     public List<Participant> getParticipantsByEvent(Integer eventId) {
         return entityManager.createQuery("SELECT p FROM Participant p JOIN p.event e " +
-                        "WHERE e.id = :paramId AND e.deleted = false ", Participant.class)
+                        "WHERE p.event.id = :paramId AND e.deleted = false ", Participant.class)
                 .setParameter("paramId", eventId)
                 .getResultList();
     }
@@ -1,6 +1,7 @@
 package FeelGoodApp.repository;
 
 import FeelGoodApp.domain.Performer;
+import org.hibernate.annotations.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
@@ -19,14 +20,29 @@ public class PerformerRepository {
         return Optional.ofNullable(entityManager.find(Performer.class, performerId));
     }
 
+    public Optional<Performer> findPerformerWithEventsById(Integer performerId) {
+        return entityManager.createQuery("SELECT DISTINCT p FROM Performer p " +
+                        "LEFT JOIN FETCH p.performersAtEvents pae LEFT JOIN FETCH pae.event e " +
+                        "LEFT JOIN FETCH e.musicVenue " +
+                        "WHERE p.id = :paramId", Performer.class)
+                .setParameter("paramId", performerId)
+                .setHint(QueryHints.PASS_DISTINCT_THROUGH, false)
+                .getResultStream()
+                .findFirst();
+    }
+
     public Performer savePerformer(Performer toSave) {
         entityManager.persist(toSave);
         return toSave;
     }
 
     public List<Performer> findAllPerformers() {
-        return entityManager.createQuery("SELECT p FROM Performer p " +
-                "WHERE p.deleted = false ", Performer.class).getResultList();
+        return entityManager.createQuery("SELECT DISTINCT p FROM Performer p " +
+                        "LEFT JOIN FETCH p.performersAtEvents pae LEFT JOIN FETCH pae.event e " +
+                        "LEFT JOIN FETCH e.musicVenue " +
+                        "WHERE p.deleted = false ", Performer.class)
+                .setHint(QueryHints.PASS_DISTINCT_THROUGH, false)
+                .getResultList();
     }
 
     public void deletePerformer(Performer performer) {
@@ -35,13 +35,21 @@ public class PerformersAtEventsRepository {
         }
     }
 
+    public List<Integer> findPerformerIdsByEventId(Integer eventId) {
+        return entityManager.createQuery("SELECT p.performer.id " +
+                        "FROM PerformersAtEvents p " +
+                        "WHERE p.event.id = :eventParam", Integer.class)
+                .setParameter("eventParam", eventId)
+                .getResultList();
+    }
+
     public void removePerformerFromEvent(PerformersAtEvents performersAtEvents) {
         entityManager.remove(performersAtEvents);
     }
 
     public List<PerformersAtEvents> removePerformerFromFutureEvents(Integer performerId) {
         return entityManager.createQuery("SELECT p " +
-                        "FROM PerformersAtEvents p JOIN p.event e " +
+                        "FROM PerformersAtEvents p JOIN FETCH p.event e " +
                         "WHERE p.performer.id = :performerParam AND e.eventDate > :eventParam ", PerformersAtEvents.class)
                 .setParameter("performerParam", performerId)
                 .setParameter("eventParam", LocalDateTime.now())
@@ -0,0 +1,26 @@
+package FeelGoodApp.repository;
+
+import FeelGoodApp.domain.PricingRule;
+import FeelGoodApp.domain.TierPrice;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+@Repository
+public class PricingRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<TierPrice> findAllTierPrices() {
+        return entityManager.createQuery("SELECT t FROM TierPrice t", TierPrice.class)
+                .getResultList();
+    }
+
+    public List<PricingRule> findAllPricingRules() {
+        return entityManager.createQuery("SELECT r FROM PricingRule r ORDER BY r.id", PricingRule.class)
+                .getResultList();
+    }
+}
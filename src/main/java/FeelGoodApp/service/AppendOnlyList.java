@@ -0,0 +1,82 @@
+package FeelGoodApp.service;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Function;
+
+/** Immutable views of the first elements of a list that only grows at its end. */
+final class AppendOnlyList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final Storage<T> storage;
+    private final int size;
+
+    private AppendOnlyList(Storage<T> storage, int size) {
+        this.storage = storage;
+        this.size = size;
+    }
+
+    static <T> AppendOnlyList<T> of(List<T> elements, Function<T, ?> key) {
+        if (elements instanceof AppendOnlyList) {
+            return (AppendOnlyList<T>) elements;
+        }
+        Storage<T> storage = new Storage<>(key, Math.max(16, elements.size()));
+        return new AppendOnlyList<>(storage, storage.append(elements));
+    }
+
+    AppendOnlyList<T> append(Collection<T> elements) {
+        Storage<T> target = storage;
+        if (storage.size != size) {
+            target = new Storage<>(storage.key, Math.max(16, size + elements.size()));
+            target.append(this);
+        }
+        return new AppendOnlyList<>(target, target.append(elements));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (T) storage.elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private static final class Storage<T> {
+
+        private final Function<T, ?> key;
+        private final Set<Object> keys = new HashSet<>();
+        // replaced by a longer copy when full, a reader sees its elements in the old and the new array alike
+        private volatile Object[] elements;
+        private int size;
+
+        private Storage(Function<T, ?> key, int capacity) {
+            this.key = key;
+            this.elements = new Object[capacity];
+        }
+
+        private synchronized int append(Collection<T> toAppend) {
+            Object[] target = elements;
+            for (T element : toAppend) {
+                if (!keys.add(key.apply(element))) {
+                    continue;
+                }
+                if (size == target.length) {
+                    target = Arrays.copyOf(target, target.length * 2);
+                    elements = target;
+                }
+                target[size++] = element;
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package FeelGoodApp.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class BusinessMetrics {
+
+    private final Counter ticketsSold;
+    private final Counter ticketsReleased;
+    private final Counter eventsSoldOut;
+    private final Counter headlinerAssignments;
+
+    public BusinessMetrics(MeterRegistry meterRegistry) {
+        ticketsSold = Counter.builder("tickets.sold")
+                .description("tickets reserved by the participants")
+                .register(meterRegistry);
+        ticketsReleased = Counter.builder("tickets.released")
+                .description("reserved tickets given back")
+                .register(meterRegistry);
+        eventsSoldOut = Counter.builder("events.sold.out")
+                .description("reservations that sold out an Event")
+                .register(meterRegistry);
+        headlinerAssignments = Counter.builder("events.headliner.assignments")
+                .description("headliners added to an Event")
+                .register(meterRegistry);
+    }
+
+    public void ticketsSold(int count) {
+        ticketsSold.increment(count);
+    }
+
+    public void ticketsReleased(int count) {
+        ticketsReleased.increment(count);
+    }
+
+    public void eventSoldOut() {
+        eventsSoldOut.increment();
+    }
+
+    public void headlinerAssigned() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            headlinerAssignments.increment();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                headlinerAssignments.increment();
+            }
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.domain.Event;
+import FeelGoodApp.domain.Performer;
+import FeelGoodApp.domain.PerformersAtEvents;
+import FeelGoodApp.repository.PerformersAtEventsRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** Evicts the cached read models after the commit of the current transaction. */
+@Component
+public class CacheInvalidator {
+
+    public static final String PERFORMERS = "performers";
+    public static final String MUSIC_VENUES = "musicVenues";
+
+    private final CacheManager cacheManager;
+    private final EventReadModel eventReadModel;
+    private final PerformersAtEventsRepository performersAtEventsRepository;
+
+    public CacheInvalidator(CacheManager cacheManager, EventReadModel eventReadModel, PerformersAtEventsRepository performersAtEventsRepository) {
+        this.cacheManager = cacheManager;
+        this.eventReadModel = eventReadModel;
+        this.performersAtEventsRepository = performersAtEventsRepository;
+    }
+
+    public void evictEvent(Integer eventId) {
+        eventReadModel.eventChanged(eventId);
+    }
+
+    public void evictEventWithPerformers(Event event) {
+        evictEvent(event.getId());
+        for (PerformersAtEvents performersAtEvents : event.getPerformersAtEvents()) {
+            evictPerformer(performersAtEvents.getPerformer().getId());
+        }
+    }
+
+    public void evictPerformersOfEvent(Integer eventId) {
+        performersAtEventsRepository.findPerformerIdsByEventId(eventId).forEach(this::evictPerformer);
+    }
+
+    public void evictPerformer(Integer performerId) {
+        evict(PERFORMERS, performerId);
+    }
+
+    public void evictPerformerWithEvents(Performer performer) {
+        evictPerformer(performer.getId());
+        for (PerformersAtEvents performersAtEvents : performer.getPerformersAtEvents()) {
+            evictEvent(performersAtEvents.getEvent().getId());
+        }
+    }
+
+    public void evictMusicVenue(Integer musicVenueId) {
+        evict(MUSIC_VENUES, musicVenueId);
+    }
+
+    private void evict(String cacheName, Integer id) {
+        Cache cache = cacheManager.getCache(cacheName);
+        afterCommit(() -> {
+            if (cache != null) {
+                cache.evict(id);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.repository.ArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** Moves the Events past archive.retention_days with their rows into the archive tables. */
+@Component
+@Slf4j
+public class EventArchiver {
+
+    private final ArchiveRepository archiveRepository;
+    private final TransactionOperations transactionOperations;
+    private final CacheInvalidator cacheInvalidator;
+    private final Counter archivedEvents;
+
+    @Value("${archive.retention_days}")
+    private Integer retentionDays;
+
+    @Value("${archive.batch_size}")
+    private Integer batchSize;
+
+    @Value("${archive.participant_batch_size}")
+    private Integer participantBatchSize;
+
+    @Value("${archive.pause}")
+    private Long pause;
+
+    private volatile int lastRunArchived;
+    private volatile LocalDateTime lastRunAt;
+
+    public EventArchiver(ArchiveRepository archiveRepository, TransactionOperations transactionOperations,
+                         CacheInvalidator cacheInvalidator, MeterRegistry meterRegistry) {
+        this.archiveRepository = archiveRepository;
+        this.transactionOperations = transactionOperations;
+        this.cacheInvalidator = cacheInvalidator;
+        this.archivedEvents = Counter.builder("events.archived")
+                .description("Events moved into the archive tables")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${archive.cron}")
+    public synchronized int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int archived = 0;
+        while (true) {
+            List<Integer> eventIds = transactionOperations.execute(status ->
+                    archiveRepository.findArchivableEventIds(cutoff, batchSize));
+            if (eventIds.isEmpty() || !archiveParticipants(eventIds)) {
+                break;
+            }
+            int batch = transactionOperations.execute(status -> archiveBatch(eventIds));
+            archived += batch;
+            archivedEvents.increment(batch);
+            if (eventIds.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+        lastRunArchived = archived;
+        lastRunAt = LocalDateTime.now();
+        log.info("Archived {} events deleted or held before {}", archived, cutoff);
+        return archived;
+    }
+
+    public int getLastRunArchived() {
+        return lastRunArchived;
+    }
+
+    public LocalDateTime getLastRunAt() {
+        return lastRunAt;
+    }
+
+    // false if interrupted, the Events stay live with the rest of their Participants
+    private boolean archiveParticipants(List<Integer> eventIds) {
+        while (true) {
+            int moved = transactionOperations.execute(status -> {
+                List<Integer> participantIds = archiveRepository.findParticipantIdsOfEvents(eventIds, participantBatchSize);
+                return participantIds.isEmpty() ? 0
+                        : archiveRepository.archiveParticipants(eventIds, participantIds, LocalDateTime.now());
+            });
+            if (moved < participantBatchSize) {
+                return true;
+            }
+            if (!pause()) {
+                return false;
+            }
+        }
+    }
+
+    private int archiveBatch(List<Integer> eventIds) {
+        List<Integer> performerIds = archiveRepository.findPerformerIdsOfEvents(eventIds);
+        int archived = archiveRepository.archiveEvents(eventIds, LocalDateTime.now());
+        eventIds.forEach(cacheInvalidator::evictEvent);
+        performerIds.forEach(cacheInvalidator::evictPerformer);
+        return archived;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Archival interrupted, the remaining events are archived in the next run");
+            return false;
+        }
+    }
+}
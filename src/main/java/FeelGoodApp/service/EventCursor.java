@@ -0,0 +1,47 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.dto.EventInfoList;
+import FeelGoodApp.exceptionhandling.InvalidCursorException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+public class EventCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime eventDate;
+    private final Integer id;
+
+    public EventCursor(LocalDateTime eventDate, Integer id) {
+        this.eventDate = eventDate;
+        this.id = id;
+    }
+
+    public static EventCursor of(EventInfoList last) {
+        return new EventCursor(last.getEventDate(), last.getId());
+    }
+
+    public String encode() {
+        String raw = eventDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new EventCursor(LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Integer.valueOf(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
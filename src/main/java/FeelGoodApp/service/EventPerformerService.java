@@ -4,16 +4,17 @@ import FeelGoodApp.domain.Event;
 import FeelGoodApp.domain.MusicVenue;
 import FeelGoodApp.domain.Performer;
 import FeelGoodApp.domain.PerformersAtEvents;
-import FeelGoodApp.domain.enums.PartnerLevel;
 import FeelGoodApp.dto.*;
 import FeelGoodApp.dto.command.*;
 import FeelGoodApp.exceptionhandling.*;
+import FeelGoodApp.mapper.EventMapper;
+import FeelGoodApp.mapper.PerformerMapper;
 import FeelGoodApp.repository.EventRepository;
 import FeelGoodApp.repository.PerformerRepository;
 import FeelGoodApp.repository.PerformersAtEventsRepository;
 import org.hibernate.exception.ConstraintViolationException;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
@@ -28,29 +29,33 @@ import java.util.stream.Collectors;
 @Transactional
 public class EventPerformerService {
 
-    @Value("${event.price.tier_1}")
-    private Double tier_1;
-    @Value("${event.price.tier_2}")
-    private Double tier_2;
-    @Value("${event.price.tier_3}")
-    private Double tier_3;
-    @Value("${event.price.tier_4}")
-    private Double tier_4;
-    @Value("${event.price.tier_5}")
-    private Double tier_5;
+    @Value("${event.page.default_size}")
+    private Integer defaultPageSize;
 
     private final MusicVenueService musicVenueService;
     private final EventRepository eventRepository;
     private final PerformerRepository performerRepository;
     private final PerformersAtEventsRepository performersAtEventsRepository;
-    private final ModelMapper modelMapper;
-
-    public EventPerformerService(MusicVenueService musicVenueService, EventRepository eventRepository, PerformerRepository performerRepository, PerformersAtEventsRepository performersAtEventsRepository, ModelMapper modelMapper) {
+    private final CacheInvalidator cacheInvalidator;
+    private final BusinessMetrics businessMetrics;
+    private final EventReadModel eventReadModel;
+    private final TicketAvailabilityPublisher ticketAvailabilityPublisher;
+    private final PricingEngine pricingEngine;
+    private final WaitingRoom waitingRoom;
+    private final TicketReservationEngine ticketReservationEngine;
+
+    public EventPerformerService(MusicVenueService musicVenueService, EventRepository eventRepository, PerformerRepository performerRepository, PerformersAtEventsRepository performersAtEventsRepository, CacheInvalidator cacheInvalidator, BusinessMetrics businessMetrics, EventReadModel eventReadModel, TicketAvailabilityPublisher ticketAvailabilityPublisher, PricingEngine pricingEngine, WaitingRoom waitingRoom, TicketReservationEngine ticketReservationEngine) {
         this.musicVenueService = musicVenueService;
         this.eventRepository = eventRepository;
         this.performerRepository = performerRepository;
         this.performersAtEventsRepository = performersAtEventsRepository;
-        this.modelMapper = modelMapper;
+        this.cacheInvalidator = cacheInvalidator;
+        this.businessMetrics = businessMetrics;
+        this.eventReadModel = eventReadModel;
+        this.ticketAvailabilityPublisher = ticketAvailabilityPublisher;
+        this.pricingEngine = pricingEngine;
+        this.waitingRoom = waitingRoom;
+        this.ticketReservationEngine = ticketReservationEngine;
     }
 
     public EventInfo saveEvent(EventCreateCommand command) {
@@ -68,24 +73,38 @@ public class EventPerformerService {
         eventToSave.setMusicVenue(musicVenue);
 
         Event eventSaved = eventRepository.saveEvent(eventToSave);
-        return mapEventToEventInfo(eventSaved);
+        EventInfo eventInfo = EventMapper.toEventInfo(eventSaved);
+        eventReadModel.eventCreated(eventInfo);
+        return eventInfo;
     }
 
-    public List<EventInfo> getEvents() {
-        List<Event> events = eventRepository.findAllEvents();
-        return events.stream()
-                .map(this::mapEventToEventInfo)
-                .collect(Collectors.toList());
+    public EventInfoPage getEvents(EventSearchCommand command) {
+        int limit = command.getLimit() == null ? defaultPageSize : command.getLimit();
+        EventCursor after = command.getCursor() == null ? null : EventCursor.decode(command.getCursor());
+
+        List<EventInfoList> events = eventRepository.findEventsPage(command,
+                after == null ? null : after.getEventDate(), after == null ? null : after.getId(), limit + 1);
+        if (events.size() <= limit) {
+            return new EventInfoPage(events, null);
+        }
+        List<EventInfoList> page = events.subList(0, limit);
+        return new EventInfoPage(page, EventCursor.of(page.get(limit - 1)).encode());
     }
 
+    // a hit of the read model needs no transaction, a miss loads the Event in its own one
+    @Transactional(Transactional.TxType.SUPPORTS)
     public EventInfo getEventById(Integer eventId) {
-        Event event = findEventById(eventId);
-        return mapEventToEventInfo(event);
+        return eventReadModel.getEvent(eventId);
+    }
+
+    public EventSummaryInfo getEventSummaryById(Integer eventId) {
+        return eventRepository.findEventSummaryById(eventId).orElseThrow(() -> new EventNotFoundException(eventId));
     }
 
+    @RetryOnOptimisticLock
     public EventInfo addPerformerToEvent(Integer eventId, AddPerformerToEventCommand command) {
         Performer performerToAdd = findPerformerById(command.getPerformerId());
-        Event event = findEventById(eventId);
+        Event event = findEventWithPerformersAndParticipantsById(eventId);
         checkEventDateIsPast(event);
 
         if (event.getPerformersAtEvents().stream()
@@ -95,8 +114,10 @@ public class EventPerformerService {
         if (command.getIsHeadliner()) {
             if (eventHasNotHeadliner(event)) {
                 event.setEventName(performerToAdd.getName() + " - " + event.getMusicVenue().getName());
-                modifyEventPrice(performerToAdd.getPartnerLevel(), event);
+                event.setEventPrice(pricingEngine.tierPrice(performerToAdd.getPartnerLevel()));
                 event.setAvailableForPublic(true);
+                businessMetrics.headlinerAssigned();
+                waitingRoom.headlinerAssigned(eventId, performerToAdd.getPartnerLevel());
             } else {
                 throw new EventAlreadyHasHeadlinerException(eventId);
             }
@@ -108,9 +129,12 @@ public class EventPerformerService {
         toSave.setHeadliner(command.getIsHeadliner());
         PerformersAtEvents saved = performersAtEventsRepository.savePerformerToEvent(toSave);
         event.getPerformersAtEvents().add(saved);
-        return mapEventToEventInfo(event);
+        cacheInvalidator.evictEventWithPerformers(event);
+        ticketAvailabilityPublisher.availabilityChanged(eventId);
+        return EventMapper.toEventInfo(event);
     }
 
+    @RetryOnOptimisticLock
     public void removePerformerFromEvent(Integer eventId, Integer performerId) {
         Event event = findEventById(eventId);
         checkEventDateIsPast(event);
@@ -121,29 +145,38 @@ public class EventPerformerService {
             throw new HeadlinerRemoveException(eventId, performerId);
         }
         performersAtEventsRepository.removePerformerFromEvent(performersAtEventsFound);
+        cacheInvalidator.evictEvent(eventId);
+        cacheInvalidator.evictPerformer(performerId);
     }
 
+    @RetryOnOptimisticLock
     public EventInfo modifyEventDate(Integer eventId, EventDateUpdateCommand command) {
-        Event eventToUpdate = findEventById(eventId);
+        Event eventToUpdate = findEventWithPerformersAndParticipantsById(eventId);
         checkEventDateIsPast(eventToUpdate);
 
         eventToUpdate.setEventDate(command.getEventDate());
         Event eventUpdated = eventRepository.modifyEventDate(eventToUpdate);
-        return mapEventToEventInfo(eventUpdated);
+        cacheInvalidator.evictEventWithPerformers(eventUpdated);
+        return EventMapper.toEventInfo(eventUpdated);
     }
 
+    @RetryOnOptimisticLock
     public void deleteEvent(Integer eventId) {
         Event eventToDelete = findEventById(eventId);
         eventRepository.deleteEvent(eventToDelete);
+        cacheInvalidator.evictEventWithPerformers(eventToDelete);
+        ticketAvailabilityPublisher.availabilityChanged(eventId);
+        waitingRoom.eventDeleted(eventId);
+        ticketReservationEngine.eventDeleted(eventId);
     }
 
     public PerformerInfo savePerformer(PerformerCreateCommand command) {
-        Performer toSave = modelMapper.map(command, Performer.class);
+        Performer toSave = PerformerMapper.toPerformer(command);
         toSave.setDeleted(false);
         toSave.setPerformersAtEvents(new ArrayList<>());
         try {
             Performer saved = performerRepository.savePerformer(toSave);
-            return mapPerformerToPerformerInfo(saved);
+            return PerformerMapper.toPerformerInfo(saved);
         } catch (ConstraintViolationException | DataIntegrityViolationException e) {
             throw new PerformerNameNotUniqueException();
         }
@@ -152,26 +185,31 @@ public class EventPerformerService {
     public List<PerformerInfo> getPerformers() {
         List<Performer> performers = performerRepository.findAllPerformers();
         return performers.stream()
-                .map(this::mapPerformerToPerformerInfo)
+                .map(PerformerMapper::toPerformerInfo)
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(CacheInvalidator.PERFORMERS)
     public PerformerInfo getPerformerById(Integer performerId) {
-        Performer performer = findPerformerById(performerId);
-        return mapPerformerToPerformerInfo(performer);
+        Performer performer = findPerformerWithEventsById(performerId);
+        return PerformerMapper.toPerformerInfo(performer);
     }
 
+    @RetryOnOptimisticLock
     public PerformerInfo modifyPerformerTier(Integer performerId, PerformerPartnerLevelUpdateCommand command) {
-        Performer performerToUpdate = findPerformerById(performerId);
+        Performer performerToUpdate = findPerformerWithEventsById(performerId);
 
         performerToUpdate.setPartnerLevel(command.getPartnerLevel());
         Performer updated = performerRepository.updatePerformerTier(performerToUpdate);
-        return mapPerformerToPerformerInfo(updated);
+        cacheInvalidator.evictPerformerWithEvents(updated);
+        return PerformerMapper.toPerformerInfo(updated);
     }
 
+    @RetryOnOptimisticLock
     public void deletePerformer(Integer performerId) {
         Performer performerToDelete = findPerformerById(performerId);
         performerRepository.deletePerformer(performerToDelete);
+        cacheInvalidator.evictPerformerWithEvents(performerToDelete);
 
         List<PerformersAtEvents> performersAtEvents =
                 performersAtEventsRepository.removePerformerFromFutureEvents(performerId);
@@ -184,53 +222,6 @@ public class EventPerformerService {
         }
     }
 
-    private void modifyEventPrice(PartnerLevel partnerLevel, Event event) {
-        switch (partnerLevel) {
-            case TIER_1:
-                event.setEventPrice(tier_1);
-                break;
-            case TIER_2:
-                event.setEventPrice(tier_2);
-                break;
-            case TIER_3:
-                event.setEventPrice(tier_3);
-                break;
-            case TIER_4:
-                event.setEventPrice(tier_4);
-                break;
-            case TIER_5:
-                event.setEventPrice(tier_5);
-                break;
-        }
-    }
-
-    private PerformerInfo mapPerformerToPerformerInfo(Performer performer) {
-        PerformerInfo performerInfo = modelMapper.map(performer, PerformerInfo.class);
-        List<EventInfoList> eventInfoList = performer.getPerformersAtEvents().stream()
-                .map(PerformersAtEvents::getEvent)
-                .filter(event -> !event.isDeleted())
-                .map(event -> modelMapper.map(event, EventInfoList.class))
-                .collect(Collectors.toList());
-
-        performerInfo.setEvents(eventInfoList);
-        return performerInfo;
-    }
-
-    private EventInfo mapEventToEventInfo(Event event) {
-        EventInfo eventInfo = modelMapper.map(event, EventInfo.class);
-        List<PerformerInfoList> performerInfoList = event.getPerformersAtEvents().stream()
-                .map(PerformersAtEvents::getPerformer)
-                .map(performer -> modelMapper.map(performer, PerformerInfoList.class))
-                .collect(Collectors.toList());
-        List<ParticipantInfoList> participantInfoList = event.getParticipants().stream()
-                .map(participant -> modelMapper.map(participant, ParticipantInfoList.class))
-                .collect(Collectors.toList());
-
-        eventInfo.setPerformers(performerInfoList);
-        eventInfo.setParticipants(participantInfoList);
-        return eventInfo;
-    }
-
     private boolean eventHasNotHeadliner(Event event) {
         return event.getPerformersAtEvents().stream()
                 .filter(PerformersAtEvents::isHeadliner)
@@ -247,6 +238,22 @@ public class EventPerformerService {
         return performerFound.get();
     }
 
+    private Performer findPerformerWithEventsById(Integer performerId) {
+        Optional<Performer> performerFound = performerRepository.findPerformerWithEventsById(performerId);
+        if (performerFound.isEmpty() || performerFound.get().isDeleted()) {
+            throw new PerformerNotFoundException(performerId);
+        }
+        return performerFound.get();
+    }
+
+    private Event findEventWithPerformersAndParticipantsById(Integer eventId) {
+        Optional<Event> eventFound = eventRepository.findEventWithPerformersAndParticipantsById(eventId);
+        if (eventFound.isEmpty() || eventFound.get().isDeleted()) {
+            throw new EventNotFoundException(eventId);
+        }
+        return eventFound.get();
+    }
+
     protected void checkEventDateIsPast(Event event) {
         if (event.getEventDate().isBefore(LocalDateTime.now())) {
             throw new PastEventDateException(event.getId());
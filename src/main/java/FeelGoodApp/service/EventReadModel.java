@@ -0,0 +1,183 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.domain.Event;
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.ParticipantInfoList;
+import FeelGoodApp.exceptionhandling.EventNotFoundException;
+import FeelGoodApp.mapper.EventMapper;
+import FeelGoodApp.repository.EventRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+/** Precomputed EventInfo of the active Events, kept up to date after the commits. */
+@Component
+@Slf4j
+public class EventReadModel {
+
+    @Value("${event.read_model.max_events}")
+    private Long maxEvents;
+
+    private ConcurrentMap<Integer, EventInfo> events;
+    private final ConcurrentMap<Integer, Object> loads = new ConcurrentHashMap<>();
+
+    private final EventRepository eventRepository;
+    private final TransactionOperations transactionOperations;
+
+    public EventReadModel(EventRepository eventRepository, TransactionOperations transactionOperations) {
+        this.eventRepository = eventRepository;
+        this.transactionOperations = transactionOperations;
+    }
+
+    @PostConstruct
+    public void init() {
+        events = Caffeine.newBuilder()
+                .maximumSize(maxEvents)
+                .<Integer, EventInfo>build()
+                .asMap();
+    }
+
+    public EventInfo getEvent(Integer eventId) {
+        EventInfo eventInfo = events.get(eventId);
+        if (eventInfo != null) {
+            return eventInfo;
+        }
+        Object token = loads.computeIfAbsent(eventId, id -> new Object());
+        Optional<EventInfo> loaded = load(eventId);
+        if (loaded.isEmpty()) {
+            loads.remove(eventId, token);
+            throw new EventNotFoundException(eventId);
+        }
+        install(loaded.get(), token);
+        return loaded.get();
+    }
+
+    public void eventCreated(EventInfo eventInfo) {
+        eventInfo.setParticipants(participantsOf(eventInfo));
+        afterCommit(() -> events.putIfAbsent(eventInfo.getId(), eventInfo));
+    }
+
+    public void eventChanged(Integer eventId) {
+        afterCommit(() -> events.compute(eventId, (id, eventInfo) -> {
+            loads.remove(id);
+            return null;
+        }));
+    }
+
+    public void participantsAdded(Integer eventId, List<ParticipantInfoList> participants, int ticketCounter,
+                                  boolean availableForPublic) {
+        afterCommit(() -> update(eventId, eventInfo -> {
+            EventInfo updated = copyOf(eventInfo);
+            updated.setParticipants(participantsOf(eventInfo).append(participants));
+            updated.setTicketCounter(Math.max(eventInfo.getTicketCounter(), ticketCounter));
+            updated.setAvailableForPublic(eventInfo.getAvailableForPublic() && availableForPublic);
+            return updated;
+        }));
+    }
+
+    public void ticketsFlushed(Integer eventId, int ticketCounter, boolean soldOut) {
+        afterCommit(() -> update(eventId, eventInfo -> {
+            EventInfo updated = copyOf(eventInfo);
+            updated.setTicketCounter(ticketCounter);
+            updated.setAvailableForPublic(!soldOut);
+            return updated;
+        }));
+    }
+
+    public int rebuild() {
+        loads.clear();
+        events.clear();
+        List<Integer> eventIds = transactionOperations.execute(status -> eventRepository.findActiveEventIds());
+        int projected = 0;
+        for (Integer eventId : eventIds) {
+            Object token = loads.computeIfAbsent(eventId, id -> new Object());
+            Optional<EventInfo> loaded = load(eventId);
+            if (loaded.isPresent()) {
+                install(loaded.get(), token);
+                projected++;
+            } else {
+                loads.remove(eventId, token);
+            }
+        }
+        log.info("Event read model rebuilt with {} events", projected);
+        return projected;
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    private Optional<EventInfo> load(Integer eventId) {
+        return transactionOperations.execute(status -> {
+            Optional<Event> eventFound = eventRepository.findEventWithPerformersAndParticipantsById(eventId);
+            if (eventFound.isEmpty() || eventFound.get().isDeleted()) {
+                return Optional.empty();
+            }
+            EventInfo eventInfo = EventMapper.toEventInfo(eventFound.get());
+            eventInfo.setParticipants(participantsOf(eventInfo));
+            return Optional.of(eventInfo);
+        });
+    }
+
+    // installed only if no change removed the token of the load since it started
+    private void install(EventInfo eventInfo, Object token) {
+        events.compute(eventInfo.getId(), (id, current) -> {
+            if (current != null || loads.get(id) != token) {
+                return current;
+            }
+            return eventInfo;
+        });
+        loads.remove(eventInfo.getId(), token);
+    }
+
+    // the token is removed together with the update, a load running meanwhile is not installed over it
+    private void update(Integer eventId, UnaryOperator<EventInfo> delta) {
+        events.compute(eventId, (id, eventInfo) -> {
+            loads.remove(id);
+            return eventInfo == null ? null : delta.apply(eventInfo);
+        });
+    }
+
+    private static AppendOnlyList<ParticipantInfoList> participantsOf(EventInfo eventInfo) {
+        return AppendOnlyList.of(eventInfo.getParticipants(), ParticipantInfoList::getId);
+    }
+
+    private EventInfo copyOf(EventInfo eventInfo) {
+        EventInfo copy = new EventInfo();
+        copy.setId(eventInfo.getId());
+        copy.setEventName(eventInfo.getEventName());
+        copy.setEventDate(eventInfo.getEventDate());
+        copy.setAvailableForPublic(eventInfo.getAvailableForPublic());
+        copy.setEventPrice(eventInfo.getEventPrice());
+        copy.setTicketCounter(eventInfo.getTicketCounter());
+        copy.setMusicVenue(eventInfo.getMusicVenue());
+        copy.setPerformers(eventInfo.getPerformers());
+        copy.setParticipants(eventInfo.getParticipants());
+        copy.setVersion(eventInfo.getVersion());
+        return copy;
+    }
+
+    private void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.domain.enums.ExportFormat;
+import FeelGoodApp.dto.EventInfoList;
+import FeelGoodApp.dto.ParticipantInfoList;
+import FeelGoodApp.repository.EventRepository;
+import FeelGoodApp.repository.ParticipantRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+
+import javax.transaction.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@Transactional
+public class ExportService {
+
+    private static final List<String> EVENT_HEADER = List.of("id", "eventName", "eventDate", "availableForPublic",
+            "eventPrice", "ticketCounter", "musicVenueId", "musicVenueName");
+    private static final List<String> PARTICIPANT_HEADER = List.of("id", "name", "email");
+
+    private final EventPerformerService eventPerformerService;
+    private final EventRepository eventRepository;
+    private final ParticipantRepository participantRepository;
+    private final ObjectMapper objectMapper;
+
+    public ExportService(EventPerformerService eventPerformerService, EventRepository eventRepository, ParticipantRepository participantRepository, ObjectMapper objectMapper) {
+        this.eventPerformerService = eventPerformerService;
+        this.eventRepository = eventRepository;
+        this.participantRepository = participantRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public void exportEvents(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<EventInfoList> events = eventRepository.streamEvents()) {
+            write(events, format, EVENT_HEADER, event -> Arrays.asList(event.getId(), event.getEventName(),
+                    event.getEventDate(), event.isAvailableForPublic(), event.getEventPrice(),
+                    event.getTicketCounter(), event.getMusicVenue().getId(), event.getMusicVenue().getName()), out);
+        }
+    }
+
+    public void checkEventExists(Integer eventId) {
+        eventPerformerService.findEventById(eventId);
+    }
+
+    public void exportParticipantsByEvent(Integer eventId, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<ParticipantInfoList> participants = participantRepository.streamParticipantsByEvent(eventId)) {
+            write(participants, format, PARTICIPANT_HEADER, participant -> Arrays.asList(participant.getId(),
+                    participant.getName(), participant.getEmail()), out);
+        }
+    }
+
+    private <T> void write(Stream<T> rows, ExportFormat format, List<String> header,
+                          Function<T, List<?>> columns, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            if (format == ExportFormat.CSV) {
+                writer.write(toCsvLine(header));
+                rows.forEach(row -> writeLine(writer, toCsvLine(columns.apply(row))));
+            } else {
+                rows.forEach(row -> writeLine(writer, toJson(row)));
+            }
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+        writer.flush();
+    }
+
+    static String toCsvLine(List<?> values) {
+        return values.stream()
+                .map(ExportService::toCsvValue)
+                .collect(Collectors.joining(",", "", "\n"));
+    }
+
+    private static String toCsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    private String toJson(Object row) {
+        try {
+            return objectMapper.writeValueAsString(row) + "\n";
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static void writeLine(Writer writer, String line) {
+        try {
+            writer.write(line);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
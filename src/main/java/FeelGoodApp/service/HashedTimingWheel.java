@@ -0,0 +1,62 @@
+package FeelGoodApp.service;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/** Timeouts bucketed by their deadline tick, an expiry only visits its own bucket. */
+public class HashedTimingWheel<T> {
+
+    private final Queue<Timeout<T>>[] buckets;
+    private final long tickMillis;
+    private final long startMillis;
+    private volatile long nextTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(int wheelSize, long tickMillis, long startMillis) {
+        this.buckets = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+    }
+
+    public void schedule(T item, long deadlineMillis) {
+        long deadlineTick = Math.max(nextTick, ceilDiv(deadlineMillis - startMillis, tickMillis));
+        buckets[(int) (deadlineTick % buckets.length)].add(new Timeout<>(item, deadlineTick));
+    }
+
+    public synchronized int advance(long nowMillis, Consumer<T> expired) {
+        long currentTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        int count = 0;
+        for (; nextTick <= currentTick; nextTick++) {
+            Iterator<Timeout<T>> iterator = buckets[(int) (nextTick % buckets.length)].iterator();
+            while (iterator.hasNext()) {
+                Timeout<T> timeout = iterator.next();
+                if (timeout.deadlineTick <= nextTick) {
+                    iterator.remove();
+                    expired.accept(timeout.item);
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    private static final class Timeout<T> {
+
+        private final T item;
+        private final long deadlineTick;
+
+        private Timeout(T item, long deadlineTick) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
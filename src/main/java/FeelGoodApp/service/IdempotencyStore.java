@@ -0,0 +1,106 @@
+package FeelGoodApp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/** Responses of the requests sent with an Idempotency-Key, and the keys of the running ones. */
+@Component
+public class IdempotencyStore {
+
+    @Value("${idempotency.ttl}")
+    private Long ttl;
+
+    @Value("${idempotency.max_weight}")
+    private Long maxWeight;
+
+    @Value("${idempotency.max_response_size}")
+    private Integer maxResponseSize;
+
+    @Value("${idempotency.wait_timeout}")
+    private Long waitTimeout;
+
+    private Cache<String, IdempotentResponse> responses;
+    private final ConcurrentMap<String, CompletableFuture<IdempotentResponse>> inProgress = new ConcurrentHashMap<>();
+
+    private final Counter replays;
+    private final Counter oversized;
+
+    public IdempotencyStore(MeterRegistry meterRegistry) {
+        replays = Counter.builder("idempotency.replays")
+                .description("requests answered with the stored response of their Idempotency-Key")
+                .register(meterRegistry);
+        oversized = Counter.builder("idempotency.oversized")
+                .description("responses not stored as they are longer than idempotency.max_response_size")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        responses = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((String key, IdempotentResponse response) -> weight(key, response))
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .build();
+    }
+
+    public Optional<IdempotentResponse> start(String key) throws InterruptedException, ExecutionException, TimeoutException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeout);
+        while (true) {
+            IdempotentResponse stored = responses.getIfPresent(key);
+            if (stored != null) {
+                return Optional.of(stored);
+            }
+            CompletableFuture<IdempotentResponse> running = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponse> other = inProgress.putIfAbsent(key, running);
+            if (other == null) {
+                // the previous request of the key may have stored its response before it removed its marker
+                stored = responses.getIfPresent(key);
+                if (stored != null) {
+                    finish(key, null);
+                    return Optional.of(stored);
+                }
+                return Optional.empty();
+            }
+            // null if the running request failed, then this one may run instead
+            IdempotentResponse response = other.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (response != null) {
+                return Optional.of(response);
+            }
+        }
+    }
+
+    public void finish(String key, IdempotentResponse response) {
+        if (response != null && response.getBody().length <= maxResponseSize) {
+            responses.put(key, response);
+        } else if (response != null) {
+            oversized.increment();
+        }
+        CompletableFuture<IdempotentResponse> running = inProgress.remove(key);
+        if (running != null) {
+            running.complete(response);
+        }
+    }
+
+    public void replayed() {
+        replays.increment();
+    }
+
+    // the bytes of the body and the key, and roughly those of the objects around them
+    private static int weight(String key, IdempotentResponse response) {
+        return response.getBody().length + 2 * key.length() + 128;
+    }
+}
@@ -0,0 +1,32 @@
+package FeelGoodApp.service;
+
+public class IdempotentResponse {
+
+    private final String requestFingerprint;
+    private final int status;
+    private final String contentType;
+    private final byte[] body;
+
+    public IdempotentResponse(String requestFingerprint, int status, String contentType, byte[] body) {
+        this.requestFingerprint = requestFingerprint;
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+    }
+
+    public String getRequestFingerprint() {
+        return requestFingerprint;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+}
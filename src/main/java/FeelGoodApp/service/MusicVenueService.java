@@ -1,13 +1,15 @@
 package FeelGoodApp.service;
 
+import FeelGoodApp.domain.Event;
 import FeelGoodApp.domain.MusicVenue;
 import FeelGoodApp.dto.MusicVenueInfo;
 import FeelGoodApp.dto.command.MusicVenueCreateCommand;
 import FeelGoodApp.exceptionhandling.MusicVenueNameNotUniqueException;
 import FeelGoodApp.exceptionhandling.MusicVenueNotFoundException;
+import FeelGoodApp.mapper.MusicVenueMapper;
 import FeelGoodApp.repository.MusicVenueRepository;
 import org.hibernate.exception.ConstraintViolationException;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
@@ -21,19 +23,19 @@ import java.util.stream.Collectors;
 public class MusicVenueService {
 
     private final MusicVenueRepository musicVenueRepository;
-    private final ModelMapper modelMapper;
+    private final CacheInvalidator cacheInvalidator;
 
-    public MusicVenueService(MusicVenueRepository musicVenueRepository, ModelMapper modelMapper) {
+    public MusicVenueService(MusicVenueRepository musicVenueRepository, CacheInvalidator cacheInvalidator) {
         this.musicVenueRepository = musicVenueRepository;
-        this.modelMapper = modelMapper;
+        this.cacheInvalidator = cacheInvalidator;
     }
 
     public MusicVenueInfo saveMusicVenue(MusicVenueCreateCommand command) {
-        MusicVenue musicVenueToSave = modelMapper.map(command, MusicVenue.class);
+        MusicVenue musicVenueToSave = MusicVenueMapper.toMusicVenue(command);
         musicVenueToSave.setDeleted(false);
         try {
             MusicVenue musicVenueSaved = musicVenueRepository.saveMusicVenue(musicVenueToSave);
-            return modelMapper.map(musicVenueSaved, MusicVenueInfo.class);
+            return MusicVenueMapper.toMusicVenueInfo(musicVenueSaved);
         } catch (ConstraintViolationException | DataIntegrityViolationException e) {
             throw new MusicVenueNameNotUniqueException();
         }
@@ -42,18 +44,22 @@ public class MusicVenueService {
     public List<MusicVenueInfo> getMusicVenues() {
         List<MusicVenue> musicVenues = musicVenueRepository.findALlMusicVenues();
         return musicVenues.stream()
-                .map(musicVenue -> modelMapper.map(musicVenue, MusicVenueInfo.class))
+                .map(MusicVenueMapper::toMusicVenueInfo)
                 .collect(Collectors.toList());
     }
 
+    @Cacheable(CacheInvalidator.MUSIC_VENUES)
     public MusicVenueInfo getMusicVenueById(Integer musicVenueId) {
         MusicVenue musicVenue = findMusicVenueById(musicVenueId);
-        return modelMapper.map(musicVenue, MusicVenueInfo.class);
+        return MusicVenueMapper.toMusicVenueInfo(musicVenue);
     }
 
+    @RetryOnOptimisticLock
     public void deleteMusicVenue(Integer musicVenueId) {
         MusicVenue musicVenueToDelete = findMusicVenueById(musicVenueId);
-        musicVenueRepository.deleteMusicVenue(musicVenueToDelete);
+        List<Event> deletedEvents = musicVenueRepository.deleteMusicVenue(musicVenueToDelete);
+        cacheInvalidator.evictMusicVenue(musicVenueId);
+        deletedEvents.forEach(cacheInvalidator::evictEventWithPerformers);
     }
 
     protected MusicVenue findMusicVenueById(Integer musicVenueId) {
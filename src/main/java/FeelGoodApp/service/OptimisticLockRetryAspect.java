@@ -0,0 +1,57 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.exceptionhandling.ConcurrentUpdateException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.OptimisticLockException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/** Ordered before the transaction interceptor, so every attempt runs in a new transaction. */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OptimisticLockRetryAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long baseBackoff;
+
+    public OptimisticLockRetryAspect(MeterRegistry meterRegistry,
+                                     @Value("${retry.optimistic_lock.max_attempts}") int maxAttempts,
+                                     @Value("${retry.optimistic_lock.base_backoff}") long baseBackoff) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+    }
+
+    @Around("@annotation(FeelGoodApp.service.RetryOnOptimisticLock)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                meterRegistry.counter("optimistic.lock.conflicts", "operation", operation).increment();
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("optimistic.lock.exhausted", "operation", operation).increment();
+                    throw new ConcurrentUpdateException(operation);
+                }
+                meterRegistry.counter("optimistic.lock.retries", "operation", operation).increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) throws InterruptedException {
+        long ceiling = baseBackoff << Math.min(attempt - 1, 10);
+        Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+}
@@ -0,0 +1,30 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.exceptionhandling.InvalidCursorException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Getter
+public class ParticipantCursor {
+
+    private final Integer id;
+
+    public ParticipantCursor(Integer id) {
+        this.id = id;
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ParticipantCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return new ParticipantCursor(Integer.valueOf(raw));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -2,15 +2,26 @@ package FeelGoodApp.service;
 
 import FeelGoodApp.domain.Event;
 import FeelGoodApp.domain.Participant;
+import FeelGoodApp.domain.enums.RegistrationStatus;
+import FeelGoodApp.dto.HoldInfo;
+import FeelGoodApp.dto.ParticipantBatchRowInfo;
 import FeelGoodApp.dto.ParticipantInfo;
 import FeelGoodApp.dto.ParticipantInfoList;
+import FeelGoodApp.dto.ParticipantInfoPage;
 import FeelGoodApp.dto.command.ParticipantCreateCommand;
+import FeelGoodApp.dto.command.ParticipantPageCommand;
 import FeelGoodApp.exceptionhandling.EventIsNotAvailableForPublicException;
+import FeelGoodApp.exceptionhandling.ParticipantBatchTooLargeException;
+import FeelGoodApp.exceptionhandling.ValidationError;
+import FeelGoodApp.mapper.ParticipantMapper;
 import FeelGoodApp.repository.ParticipantRepository;
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,37 +31,159 @@ public class ParticipantService {
 
     private final EventPerformerService eventPerformerService;
     private final ParticipantRepository participantRepository;
-    private final ModelMapper modelMapper;
+    private final TicketReservationEngine ticketReservationEngine;
+    private final Validator validator;
+    private final EventReadModel eventReadModel;
+    private final TicketAvailabilityPublisher ticketAvailabilityPublisher;
+    private final PricingEngine pricingEngine;
+    private final SeatHoldStore seatHoldStore;
 
-    public ParticipantService(EventPerformerService eventPerformerService, ParticipantRepository participantRepository, ModelMapper modelMapper) {
+    @Value("${event.participants.max_batch_size}")
+    private Integer maxBatchSize;
+
+    @Value("${event.participants.default_page_size}")
+    private Integer defaultPageSize;
+
+    public ParticipantService(EventPerformerService eventPerformerService, ParticipantRepository participantRepository, TicketReservationEngine ticketReservationEngine, Validator validator, EventReadModel eventReadModel, TicketAvailabilityPublisher ticketAvailabilityPublisher, PricingEngine pricingEngine, SeatHoldStore seatHoldStore) {
         this.eventPerformerService = eventPerformerService;
         this.participantRepository = participantRepository;
-        this.modelMapper = modelMapper;
+        this.ticketReservationEngine = ticketReservationEngine;
+        this.validator = validator;
+        this.eventReadModel = eventReadModel;
+        this.ticketAvailabilityPublisher = ticketAvailabilityPublisher;
+        this.pricingEngine = pricingEngine;
+        this.seatHoldStore = seatHoldStore;
     }
 
+    @RetryOnOptimisticLock
     public ParticipantInfo saveParticipant(Integer eventId, ParticipantCreateCommand command) {
         Event event = eventPerformerService.findEventById(eventId);
         eventPerformerService.checkEventDateIsPast(event);
 
-        if (!event.isAvailableForPublic() || event.getTicketCounter() >= event.getMusicVenue().getCapacity()) {
+        if (!event.isAvailableForPublic()) {
             throw new EventIsNotAvailableForPublicException(eventId);
         }
-        event.setTicketCounter(event.getTicketCounter() + 1);
+        event.setTicketCounter(ticketReservationEngine.reserve(event));
+        double ticketPrice = pricingEngine.quote(event, event.getTicketCounter() - 1);
         if (event.getTicketCounter() >= event.getMusicVenue().getCapacity()) {
             event.setAvailableForPublic(false);
         }
-        Participant toSave = modelMapper.map(command, Participant.class);
+        Participant toSave = ParticipantMapper.toParticipant(command);
         toSave.setEvent(event);
+        toSave.setTicketPrice(ticketPrice);
         Participant saved = participantRepository.saveParticipant(toSave);
+        eventReadModel.participantsAdded(eventId, List.of(ParticipantMapper.toParticipantInfoList(saved)),
+                event.getTicketCounter(), event.isAvailableForPublic());
+        ticketAvailabilityPublisher.availabilityChanged(eventId);
+
+        return ParticipantMapper.toParticipantInfo(saved);
+    }
 
-        return modelMapper.map(saved, ParticipantInfo.class);
+    @RetryOnOptimisticLock
+    public HoldInfo holdTicket(Integer eventId) {
+        Event event = eventPerformerService.findEventById(eventId);
+        eventPerformerService.checkEventDateIsPast(event);
+
+        if (!event.isAvailableForPublic()) {
+            throw new EventIsNotAvailableForPublicException(eventId);
+        }
+        event.setTicketCounter(ticketReservationEngine.reserve(event));
+        double ticketPrice = pricingEngine.quote(event, event.getTicketCounter() - 1);
+        if (event.getTicketCounter() >= event.getMusicVenue().getCapacity()) {
+            event.setAvailableForPublic(false);
+        }
+        eventReadModel.participantsAdded(eventId, List.of(), event.getTicketCounter(), event.isAvailableForPublic());
+        ticketAvailabilityPublisher.availabilityChanged(eventId);
+
+        return seatHoldStore.hold(eventId, ticketPrice);
+    }
+
+    public ParticipantInfo confirmHold(Integer eventId, String holdId, ParticipantCreateCommand command) {
+        HoldInfo hold = seatHoldStore.confirm(eventId, holdId);
+        Event event = eventPerformerService.findEventById(eventId);
+
+        Participant toSave = ParticipantMapper.toParticipant(command);
+        toSave.setEvent(event);
+        toSave.setTicketPrice(hold.getTicketPrice());
+        Participant saved = participantRepository.saveParticipant(toSave);
+        eventReadModel.participantsAdded(eventId, List.of(ParticipantMapper.toParticipantInfoList(saved)),
+                event.getTicketCounter(), event.isAvailableForPublic());
+
+        return ParticipantMapper.toParticipantInfo(saved);
+    }
+
+    @RetryOnOptimisticLock
+    public List<ParticipantBatchRowInfo> saveParticipants(Integer eventId, List<ParticipantCreateCommand> commands) {
+        if (commands.size() > maxBatchSize) {
+            throw new ParticipantBatchTooLargeException(maxBatchSize);
+        }
+        Event event = eventPerformerService.findEventById(eventId);
+        eventPerformerService.checkEventDateIsPast(event);
+
+        if (!event.isAvailableForPublic()) {
+            throw new EventIsNotAvailableForPublicException(eventId);
+        }
+
+        ParticipantBatchRowInfo[] results = new ParticipantBatchRowInfo[commands.size()];
+        List<Integer> validRows = new ArrayList<>();
+        for (int row = 0; row < commands.size(); row++) {
+            List<ValidationError> errors = validator.validate(commands.get(row)).stream()
+                    .map(violation -> new ValidationError(violation.getPropertyPath().toString(), violation.getMessage()))
+                    .collect(Collectors.toList());
+            if (errors.isEmpty()) {
+                validRows.add(row);
+            } else {
+                results[row] = new ParticipantBatchRowInfo(row, RegistrationStatus.INVALID, null, errors);
+            }
+        }
+
+        int reserved = validRows.isEmpty() ? 0 : ticketReservationEngine.reserve(event, validRows.size());
+        if (reserved > 0) {
+            event.setTicketCounter(ticketReservationEngine.soldTickets(event));
+            if (event.getTicketCounter() >= event.getMusicVenue().getCapacity()) {
+                event.setAvailableForPublic(false);
+            }
+        }
+
+        List<Participant> toSave = new ArrayList<>(reserved);
+        for (int i = 0; i < reserved; i++) {
+            Participant participant = ParticipantMapper.toParticipant(commands.get(validRows.get(i)));
+            participant.setEvent(event);
+            // every ticket is priced at its own position in the sale
+            participant.setTicketPrice(pricingEngine.quote(event, event.getTicketCounter() - reserved + i));
+            toSave.add(participant);
+        }
+        List<Participant> saved = participantRepository.saveParticipants(toSave);
+        eventReadModel.participantsAdded(eventId, ParticipantMapper.toParticipantInfoLists(saved),
+                event.getTicketCounter(), event.isAvailableForPublic());
+        ticketAvailabilityPublisher.availabilityChanged(eventId);
+
+        for (int i = 0; i < validRows.size(); i++) {
+            int row = validRows.get(i);
+            results[row] = i < reserved
+                    ? new ParticipantBatchRowInfo(row, RegistrationStatus.CREATED, saved.get(i).getId(), List.of())
+                    : new ParticipantBatchRowInfo(row, RegistrationStatus.SOLD_OUT, null, List.of());
+        }
+        return Arrays.asList(results);
+    }
+
+    public ParticipantInfoPage getParticipantsPage(Integer eventId, ParticipantPageCommand command) {
+        eventPerformerService.findEventById(eventId);
+        int limit = command.getLimit() == null ? defaultPageSize : command.getLimit();
+        ParticipantCursor after = command.getCursor() == null ? null : ParticipantCursor.decode(command.getCursor());
+
+        List<ParticipantInfoList> participants = participantRepository.findParticipantsPage(eventId,
+                after == null ? null : after.getId(), limit + 1);
+        if (participants.size() <= limit) {
+            return new ParticipantInfoPage(participants, null);
+        }
+        List<ParticipantInfoList> page = participants.subList(0, limit);
+        return new ParticipantInfoPage(page, new ParticipantCursor(page.get(limit - 1).getId()).encode());
     }
 
     public List<ParticipantInfoList> getParticipantsByEvent(Integer eventId) {
         eventPerformerService.findEventById(eventId);
         List<Participant> participants = participantRepository.getParticipantsByEvent(eventId);
-        return participants.stream()
-                .map(participant -> modelMapper.map(participant, ParticipantInfoList.class))
-                .collect(Collectors.toList());
+        return ParticipantMapper.toParticipantInfoLists(participants);
     }
 }
@@ -0,0 +1,91 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.domain.Event;
+import FeelGoodApp.domain.PricingRule;
+import FeelGoodApp.domain.TierPrice;
+import FeelGoodApp.domain.enums.PartnerLevel;
+import FeelGoodApp.repository.PricingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** Prices of the Events and their tickets, from a snapshot of the tier_price and pricing_rule tables. */
+@Component
+@Slf4j
+public class PricingEngine {
+
+    @Value("${event.price.tier_1}")
+    private Double tier_1;
+    @Value("${event.price.tier_2}")
+    private Double tier_2;
+    @Value("${event.price.tier_3}")
+    private Double tier_3;
+    @Value("${event.price.tier_4}")
+    private Double tier_4;
+    @Value("${event.price.tier_5}")
+    private Double tier_5;
+
+    private final AtomicReference<PricingSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    private final PricingRepository pricingRepository;
+    private final TransactionOperations transactionOperations;
+
+    public PricingEngine(PricingRepository pricingRepository, TransactionOperations transactionOperations) {
+        this.pricingRepository = pricingRepository;
+        this.transactionOperations = transactionOperations;
+    }
+
+    @PostConstruct
+    public PricingSnapshot reload() {
+        Map<PartnerLevel, Double> tierPrices = new EnumMap<>(PartnerLevel.class);
+        putIfConfigured(tierPrices, PartnerLevel.TIER_1, tier_1);
+        putIfConfigured(tierPrices, PartnerLevel.TIER_2, tier_2);
+        putIfConfigured(tierPrices, PartnerLevel.TIER_3, tier_3);
+        putIfConfigured(tierPrices, PartnerLevel.TIER_4, tier_4);
+        putIfConfigured(tierPrices, PartnerLevel.TIER_5, tier_5);
+
+        PricingSnapshot loaded = transactionOperations.execute(status -> {
+            for (TierPrice tierPrice : pricingRepository.findAllTierPrices()) {
+                tierPrices.put(tierPrice.getPartnerLevel(), tierPrice.getPrice());
+            }
+            List<PricingRule> rules = pricingRepository.findAllPricingRules();
+            return new PricingSnapshot(versions.incrementAndGet(), tierPrices, rules);
+        });
+        snapshot.set(loaded);
+        log.info("Pricing version {} loaded with {} rules", loaded.getVersion(), loaded.getRuleCount());
+        return loaded;
+    }
+
+    public PricingSnapshot current() {
+        return snapshot.get();
+    }
+
+    public Double tierPrice(PartnerLevel partnerLevel) {
+        return snapshot.get().tierPrice(partnerLevel);
+    }
+
+    public double quote(Event event, int soldTickets) {
+        int capacity = event.getMusicVenue().getCapacity();
+        int soldPercent = capacity == 0 ? 100 : (int) (soldTickets * 100L / capacity);
+        long daysToEvent = ChronoUnit.DAYS.between(LocalDateTime.now(), event.getEventDate());
+        double multiplier = snapshot.get().multiplier(event.getMusicVenue().getType(), soldPercent, daysToEvent);
+        return Math.round(event.getEventPrice() * multiplier);
+    }
+
+    private void putIfConfigured(Map<PartnerLevel, Double> tierPrices, PartnerLevel partnerLevel, Double price) {
+        if (price != null) {
+            tierPrices.put(partnerLevel, price);
+        }
+    }
+}
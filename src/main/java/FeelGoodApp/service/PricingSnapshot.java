@@ -0,0 +1,87 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.domain.PricingRule;
+import FeelGoodApp.domain.enums.PartnerLevel;
+import FeelGoodApp.domain.enums.VenueType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/** Tier prices and rule multipliers precomputed per venue type, sold percent and days to the Event. */
+public final class PricingSnapshot {
+
+    private final long version;
+    private final Map<PartnerLevel, Double> tierPrices;
+    private final int ruleCount;
+    private final int[] bucketOfDay;
+    private final double[][][] multipliers;
+
+    PricingSnapshot(long version, Map<PartnerLevel, Double> tierPrices, List<PricingRule> rules) {
+        this.version = version;
+        this.tierPrices = Map.copyOf(tierPrices);
+        this.ruleCount = rules.size();
+
+        TreeSet<Integer> limits = new TreeSet<>();
+        for (PricingRule rule : rules) {
+            if (rule.getMaxDaysToEvent() != null) {
+                limits.add(rule.getMaxDaysToEvent());
+            }
+        }
+        int[] thresholds = limits.stream().mapToInt(Integer::intValue).toArray();
+        int lastDay = thresholds.length == 0 ? 0 : thresholds[thresholds.length - 1] + 1;
+        bucketOfDay = new int[lastDay + 1];
+        for (int day = 0, bucket = 0; day <= lastDay; day++) {
+            while (bucket < thresholds.length && thresholds[bucket] < day) {
+                bucket++;
+            }
+            bucketOfDay[day] = bucket;
+        }
+
+        VenueType[] venueTypes = VenueType.values();
+        multipliers = new double[venueTypes.length][101][thresholds.length + 1];
+        for (VenueType venueType : venueTypes) {
+            for (int percent = 0; percent <= 100; percent++) {
+                for (int bucket = 0; bucket <= thresholds.length; bucket++) {
+                    int day = bucket < thresholds.length ? thresholds[bucket] : lastDay;
+                    multipliers[venueType.ordinal()][percent][bucket] =
+                            combinedMultiplier(rules, venueType, percent / 100.0, day);
+                }
+            }
+        }
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Map<PartnerLevel, Double> getTierPrices() {
+        return tierPrices;
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    Double tierPrice(PartnerLevel partnerLevel) {
+        return tierPrices.get(partnerLevel);
+    }
+
+    double multiplier(VenueType venueType, int soldPercent, long daysToEvent) {
+        int percent = Math.max(0, Math.min(100, soldPercent));
+        int day = (int) Math.max(0, Math.min(bucketOfDay.length - 1, daysToEvent));
+        return multipliers[venueType.ordinal()][percent][bucketOfDay[day]];
+    }
+
+    private static double combinedMultiplier(List<PricingRule> rules, VenueType venueType, double fillRatio, int day) {
+        double multiplier = 1.0;
+        for (PricingRule rule : rules) {
+            if ((rule.getVenueType() == null || rule.getVenueType() == venueType)
+                    && fillRatio >= rule.getMinFillRatio()
+                    && (rule.getMaxDaysToEvent() == null || day <= rule.getMaxDaysToEvent())) {
+                multiplier *= rule.getMultiplier();
+            }
+        }
+        return multiplier;
+    }
+}
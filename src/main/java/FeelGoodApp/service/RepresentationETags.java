@@ -0,0 +1,40 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.PerformerInfo;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/** ETags derived from the entity versions and the ticket counters of the representation. */
+@Component
+public class RepresentationETags {
+
+    public String eventETag(EventInfo event) {
+        return digest(event.getId() + "|" + event.getVersion() + "|" + event.getTicketCounter() + "|"
+                + event.getAvailableForPublic() + "|" + event.getParticipants().size());
+    }
+
+    public String performerETag(PerformerInfo performer) {
+        return digest(performer.getId() + "|" + performer.getVersion());
+    }
+
+    public String musicVenueETag(MusicVenueInfo musicVenue) {
+        return digest(musicVenue.getId() + "|" + musicVenue.getVersion());
+    }
+
+    public String musicVenuesETag(List<MusicVenueInfo> musicVenues) {
+        StringBuilder versions = new StringBuilder();
+        for (MusicVenueInfo musicVenue : musicVenues) {
+            versions.append(musicVenue.getId()).append(':').append(musicVenue.getVersion()).append('/');
+        }
+        return digest(versions.toString());
+    }
+
+    private String digest(String versions) {
+        return DigestUtils.md5DigestAsHex(versions.getBytes(StandardCharsets.UTF_8));
+    }
+}
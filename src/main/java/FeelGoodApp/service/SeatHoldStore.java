@@ -0,0 +1,254 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.domain.HeldTicket;
+import FeelGoodApp.domain.enums.HoldStatus;
+import FeelGoodApp.dto.HoldInfo;
+import FeelGoodApp.exceptionhandling.HoldNotFoundException;
+import FeelGoodApp.repository.HeldTicketRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** Held tickets with a held_ticket row each, given back after event.holds.ttl unless confirmed. */
+@Component
+@Slf4j
+public class SeatHoldStore {
+
+    @Value("${event.holds.ttl}")
+    private Long ttl;
+
+    @Value("${event.holds.tick}")
+    private Long tick;
+
+    @Value("${event.holds.wheel_size}")
+    private Integer wheelSize;
+
+    private final ConcurrentMap<String, SeatHold> holds = new ConcurrentHashMap<>();
+    private HashedTimingWheel<SeatHold> wheel;
+
+    private final TicketReservationEngine ticketReservationEngine;
+    private final TicketAvailabilityPublisher ticketAvailabilityPublisher;
+    private final HeldTicketRepository heldTicketRepository;
+    private final TransactionOperations transactionOperations;
+    private final Counter expiredHolds;
+
+    public SeatHoldStore(TicketReservationEngine ticketReservationEngine, TicketAvailabilityPublisher ticketAvailabilityPublisher, HeldTicketRepository heldTicketRepository, TransactionOperations transactionOperations, MeterRegistry meterRegistry) {
+        this.ticketReservationEngine = ticketReservationEngine;
+        this.ticketAvailabilityPublisher = ticketAvailabilityPublisher;
+        this.heldTicketRepository = heldTicketRepository;
+        this.transactionOperations = transactionOperations;
+        expiredHolds = Counter.builder("seat.holds.expired")
+                .description("holds whose tickets were given back unconfirmed")
+                .register(meterRegistry);
+        Gauge.builder("seat.holds.active", holds, Map::size)
+                .description("holds waiting for their confirmation")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        wheel = new HashedTimingWheel<>(wheelSize, tick, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        List<HeldTicket> heldTickets = transactionOperations.execute(status -> heldTicketRepository.findAllHeldTickets());
+        for (HeldTicket heldTicket : heldTickets) {
+            SeatHold hold = new SeatHold(heldTicket.getId(), heldTicket.getEventId(), heldTicket.getTicketPrice(),
+                    heldTicket.getExpiresAt());
+            if (holds.putIfAbsent(hold.id, hold) == null) {
+                wheel.schedule(hold, hold.expiresAt);
+            }
+        }
+        log.info("Seat holds restored: {}", heldTickets.size());
+    }
+
+    public HoldInfo hold(Integer eventId, double ticketPrice) {
+        long expiresAt = System.currentTimeMillis() + ttl;
+        SeatHold hold = new SeatHold(UUID.randomUUID().toString(), eventId, ticketPrice, expiresAt);
+        heldTicketRepository.saveHeldTicket(new HeldTicket(hold.id, eventId, ticketPrice, expiresAt));
+        afterCommit(() -> {
+            holds.put(hold.id, hold);
+            wheel.schedule(hold, expiresAt);
+        });
+        return describe(hold);
+    }
+
+    public HoldInfo confirm(Integer eventId, String holdId) {
+        SeatHold hold = find(eventId, holdId);
+        // a hold past its deadline is left to the wheel, its ticket is given back on the next tick
+        if (System.currentTimeMillis() >= hold.expiresAt
+                || !hold.status.compareAndSet(HoldStatus.HELD, HoldStatus.CONFIRMING)) {
+            throw new HoldNotFoundException(holdId);
+        }
+        // the row is gone if another instance has given the ticket back
+        if (!heldTicketRepository.deleteHeldTicket(holdId)) {
+            hold.status.set(HoldStatus.EXPIRED);
+            holds.remove(hold.id);
+            throw new HoldNotFoundException(holdId);
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            confirmed(hold);
+        } else {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        confirmed(hold);
+                    } else {
+                        hold.status.compareAndSet(HoldStatus.CONFIRMING, HoldStatus.HELD);
+                    }
+                }
+            });
+        }
+        return describe(hold);
+    }
+
+    public void release(Integer eventId, String holdId) {
+        SeatHold hold = find(eventId, holdId);
+        if (!hold.status.compareAndSet(HoldStatus.HELD, HoldStatus.RELEASED)) {
+            throw new HoldNotFoundException(holdId);
+        }
+        holds.remove(hold.id);
+        releaseTickets(deleteHeldTickets(List.of(hold)));
+    }
+
+    @Scheduled(fixedDelayString = "${event.holds.tick}")
+    public int expire() {
+        List<SeatHold> expiring = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        wheel.advance(now, hold -> {
+            if (hold.status.get() == HoldStatus.CONFIRMING) {
+                // the confirmation may still roll back, the hold is looked at again on the next tick
+                wheel.schedule(hold, now + tick);
+            } else if (expire(hold)) {
+                expiring.add(hold);
+            }
+        });
+        Map<Integer, Integer> released = deleteHeldTickets(expiring);
+        releaseTickets(released);
+        int expired = released.values().stream().mapToInt(Integer::intValue).sum();
+        expiredHolds.increment(expired);
+        return expired;
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void releaseOnShutdown() {
+        List<SeatHold> releasing = new ArrayList<>();
+        holds.values().forEach(hold -> {
+            if (hold.status.compareAndSet(HoldStatus.HELD, HoldStatus.RELEASED)) {
+                releasing.add(hold);
+            }
+        });
+        holds.clear();
+        Map<Integer, Integer> released = deleteHeldTickets(releasing);
+        log.info("Releasing the held tickets of {} events before shutdown", released.size());
+        releaseTickets(released);
+    }
+
+    public int size() {
+        return holds.size();
+    }
+
+    private SeatHold find(Integer eventId, String holdId) {
+        SeatHold hold = holds.get(holdId);
+        if (hold == null || !hold.eventId.equals(eventId)) {
+            throw new HoldNotFoundException(holdId);
+        }
+        return hold;
+    }
+
+    // the caller gives the ticket back if the hold is expired here
+    private boolean expire(SeatHold hold) {
+        if (!hold.status.compareAndSet(HoldStatus.HELD, HoldStatus.EXPIRED)) {
+            return false;
+        }
+        holds.remove(hold.id);
+        return true;
+    }
+
+    private void confirmed(SeatHold hold) {
+        hold.status.set(HoldStatus.CONFIRMED);
+        holds.remove(hold.id);
+    }
+
+    private Map<Integer, Integer> deleteHeldTickets(List<SeatHold> toDelete) {
+        Map<Integer, Integer> released = new HashMap<>();
+        if (toDelete.isEmpty()) {
+            return released;
+        }
+        transactionOperations.executeWithoutResult(status -> toDelete.forEach(hold -> {
+            if (heldTicketRepository.deleteHeldTicket(hold.id)) {
+                released.merge(hold.eventId, 1, Integer::sum);
+            }
+        }));
+        return released;
+    }
+
+    private void releaseTickets(Map<Integer, Integer> released) {
+        released.forEach((eventId, count) -> {
+            ticketReservationEngine.release(eventId, count);
+            ticketAvailabilityPublisher.availabilityChanged(eventId);
+        });
+    }
+
+    private HoldInfo describe(SeatHold hold) {
+        return new HoldInfo(hold.id, hold.eventId, hold.ticketPrice,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(hold.expiresAt), ZoneId.systemDefault()));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class SeatHold {
+
+        private final String id;
+        private final Integer eventId;
+        private final double ticketPrice;
+        private final long expiresAt;
+        private final AtomicReference<HoldStatus> status = new AtomicReference<>(HoldStatus.HELD);
+
+        private SeatHold(String id, Integer eventId, double ticketPrice, long expiresAt) {
+            this.id = id;
+            this.eventId = eventId;
+            this.ticketPrice = ticketPrice;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.TicketAvailabilityInfo;
+import FeelGoodApp.exceptionhandling.EventNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** Pushes the ticket availability of the Events to their SSE subscribers once per publish_interval. */
+@Component
+@Slf4j
+public class TicketAvailabilityPublisher {
+
+    private static final String EVENT_NAME = "availability";
+
+    private final ConcurrentMap<Integer, Set<Subscriber>> subscribersByEvent = new ConcurrentHashMap<>();
+    private final Set<Integer> changedEvents = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final EventReadModel eventReadModel;
+
+    @Value("${event.availability.subscription_timeout}")
+    private Long subscriptionTimeout;
+
+    @Value("${event.availability.writer_threads}")
+    private Integer writerThreads;
+
+    @Value("${event.availability.writer_queue}")
+    private Integer writerQueue;
+
+    @Value("${event.availability.send_timeout}")
+    private Long sendTimeout;
+
+    private ThreadPoolExecutor writers;
+
+    private final Counter rejectedHeartbeats;
+
+    public TicketAvailabilityPublisher(EventReadModel eventReadModel, MeterRegistry meterRegistry) {
+        this.eventReadModel = eventReadModel;
+        Gauge.builder("events.availability.subscribers", subscriberCount, AtomicInteger::get)
+                .description("open ticket availability streams")
+                .register(meterRegistry);
+        this.rejectedHeartbeats = Counter.builder("events.availability.heartbeats.rejected")
+                .description("heartbeats not sent because every availability writer was busy")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        writers = new ThreadPoolExecutor(writerThreads, writerThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(writerQueue), runnable -> {
+                    Thread thread = new Thread(runnable, "availability-writer-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writers.shutdownNow();
+    }
+
+    public SseEmitter subscribe(Integer eventId) {
+        TicketAvailabilityInfo current = availabilityOf(eventReadModel.getEvent(eventId));
+
+        SseEmitter emitter = new SseEmitter(subscriptionTimeout);
+        Subscriber subscriber = new Subscriber(emitter);
+        subscribersByEvent.compute(eventId, (id, subscribers) -> {
+            Set<Subscriber> updated = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            updated.add(subscriber);
+            return updated;
+        });
+        subscriberCount.incrementAndGet();
+        // the last subscriber of the Event takes its set with it
+        Runnable unsubscribe = () -> subscribersByEvent.computeIfPresent(eventId, (id, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(throwable -> unsubscribe.run());
+
+        send(emitter, SseEmitter.event().name(EVENT_NAME).data(current));
+        return emitter;
+    }
+
+    public void availabilityChanged(Integer eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            changedEvents.add(eventId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                changedEvents.add(eventId);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${event.availability.publish_interval}")
+    public void publish() {
+        Iterator<Integer> iterator = changedEvents.iterator();
+        while (iterator.hasNext()) {
+            Integer eventId = iterator.next();
+            iterator.remove();
+            Set<Subscriber> subscribers = subscribersByEvent.get(eventId);
+            if (subscribers == null || subscribers.isEmpty()) {
+                continue;
+            }
+            TicketAvailabilityInfo availability;
+            try {
+                availability = availabilityOf(eventReadModel.getEvent(eventId));
+            } catch (EventNotFoundException e) {
+                subscribers.forEach(subscriber -> subscriber.emitter.complete());
+                continue;
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (!write(subscriber, SseEmitter.event().name(EVENT_NAME).data(availability), false)) {
+                    changedEvents.add(eventId);
+                }
+            }
+        }
+    }
+
+    // keeps idle connections open through proxies and finds the clients that went away
+    @Scheduled(fixedDelayString = "${event.availability.heartbeat_interval}")
+    public void heartbeat() {
+        int rejected = 0;
+        for (Set<Subscriber> subscribers : subscribersByEvent.values()) {
+            for (Subscriber subscriber : subscribers) {
+                if (!write(subscriber, SseEmitter.event().comment(""), true)) {
+                    rejected++;
+                }
+            }
+        }
+        if (rejected > 0) {
+            rejectedHeartbeats.increment(rejected);
+            log.warn("{} ticket availability heartbeats rejected, every writer is busy", rejected);
+        }
+    }
+
+    public int subscribers() {
+        return subscriberCount.get();
+    }
+
+    private boolean write(Subscriber subscriber, SseEmitter.SseEventBuilder event, boolean heartbeat) {
+        long sendingSince = subscriber.sendingSince;
+        if (sendingSince != 0 && System.currentTimeMillis() - sendingSince > sendTimeout) {
+            log.debug("Dropping slow ticket availability subscriber");
+            subscriber.emitter.complete();
+            return true;
+        }
+        if (heartbeat) {
+            subscriber.pending.compareAndSet(null, event);
+        } else {
+            subscriber.pending.set(event);
+        }
+        if (!subscriber.scheduled.compareAndSet(false, true)) {
+            return true;
+        }
+        try {
+            writers.execute(() -> drain(subscriber));
+            return true;
+        } catch (RejectedExecutionException e) {
+            subscriber.scheduled.set(false);
+            return false;
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.pending.getAndSet(null)) != null) {
+                subscriber.sendingSince = System.currentTimeMillis();
+                boolean sent = send(subscriber.emitter, event);
+                subscriber.sendingSince = 0;
+                if (!sent) {
+                    subscriber.pending.set(null);
+                    break;
+                }
+            }
+            subscriber.scheduled.set(false);
+        } while (subscriber.pending.get() != null && subscriber.scheduled.compareAndSet(false, true));
+    }
+
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping ticket availability subscriber: {}", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private TicketAvailabilityInfo availabilityOf(EventInfo eventInfo) {
+        return new TicketAvailabilityInfo(eventInfo.getId(), eventInfo.getTicketCounter(),
+                eventInfo.getMusicVenue().getCapacity(), eventInfo.getAvailableForPublic());
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        // the latest message not yet written
+        private final AtomicReference<SseEmitter.SseEventBuilder> pending = new AtomicReference<>();
+        // a writer has the subscriber or it is queued for one
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // the start of the send in progress, 0 between the sends
+        private volatile long sendingSince;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
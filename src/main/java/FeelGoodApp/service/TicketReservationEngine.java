@@ -0,0 +1,259 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.domain.Event;
+import FeelGoodApp.domain.enums.TicketCounterStore;
+import FeelGoodApp.exceptionhandling.EventIsNotAvailableForPublicException;
+import FeelGoodApp.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Lock-free in-memory ticket counters of the Events, written back by flush(). */
+@Component
+@Slf4j
+public class TicketReservationEngine {
+
+    // the sold tickets of a dropped counter, it takes no more reservations or releases
+    private static final int DROPPED = Integer.MIN_VALUE;
+
+    private final ConcurrentMap<Integer, EventTickets> ticketsByEvent = new ConcurrentHashMap<>();
+    private final Set<Integer> dirtyEvents = ConcurrentHashMap.newKeySet();
+
+    private final EventRepository eventRepository;
+    private final TransactionOperations transactionOperations;
+    private final EventReadModel eventReadModel;
+    private final BusinessMetrics businessMetrics;
+    private final CacheInvalidator cacheInvalidator;
+
+    @Value("${event.tickets.counter}")
+    private TicketCounterStore counterStore;
+
+    public TicketReservationEngine(EventRepository eventRepository, TransactionOperations transactionOperations, EventReadModel eventReadModel, BusinessMetrics businessMetrics, CacheInvalidator cacheInvalidator) {
+        this.eventRepository = eventRepository;
+        this.transactionOperations = transactionOperations;
+        this.eventReadModel = eventReadModel;
+        this.businessMetrics = businessMetrics;
+        this.cacheInvalidator = cacheInvalidator;
+    }
+
+    public int reserve(Event event) {
+        if (reserve(event, 1) == 0) {
+            throw new EventIsNotAvailableForPublicException(event.getId());
+        }
+        return soldTickets(event);
+    }
+
+    public int reserve(Event event, int count) {
+        if (counterStore == TicketCounterStore.DATABASE) {
+            return reserveInDatabase(event, count);
+        }
+        int reserved;
+        do {
+            EventTickets tickets = ticketsByEvent.get(event.getId());
+            if (tickets == null) {
+                // counted outside of the map, a concurrent first reservation only counts once more
+                int sold = Math.max(event.getTicketCounter(), eventRepository.countParticipants(event.getId()));
+                tickets = ticketsByEvent.computeIfAbsent(event.getId(), id -> new EventTickets(
+                        sold, event.getMusicVenue().getCapacity(), event.getEventDate()));
+                if (sold > event.getTicketCounter()) {
+                    dirtyEvents.add(event.getId());
+                }
+            }
+            reserved = tickets.tryReserve(count);
+        } while (reserved < 0);
+        if (reserved > 0) {
+            dirtyEvents.add(event.getId());
+            releaseOnRollback(event.getId(), reserved);
+            businessMetrics.ticketsSold(reserved);
+        }
+        return reserved;
+    }
+
+    public int soldTickets(Event event) {
+        if (counterStore == TicketCounterStore.DATABASE) {
+            return event.getTicketCounter();
+        }
+        return ticketsByEvent.get(event.getId()).sold.get();
+    }
+
+    public void release(Integer eventId, int count) {
+        if (counterStore == TicketCounterStore.DATABASE) {
+            releaseInDatabase(eventId, count);
+            return;
+        }
+        EventTickets tickets = ticketsByEvent.get(eventId);
+        if (tickets != null && tickets.tryRelease(count)) {
+            dirtyEvents.add(eventId);
+            businessMetrics.ticketsReleased(count);
+            return;
+        }
+        // the counter is dropped, the database has its last value
+        releaseInDatabase(eventId, count);
+    }
+
+    public void eventDeleted(Integer eventId) {
+        EventTickets tickets = ticketsByEvent.get(eventId);
+        if (tickets != null) {
+            tickets.deleted = true;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${event.tickets.flush_interval}")
+    public synchronized void flush() {
+        if (!dirtyEvents.isEmpty()) {
+            // a reservation during the flush marks its Event again, a failed flush marks all of them again
+            List<Integer> eventIds = new ArrayList<>(dirtyEvents);
+            dirtyEvents.removeAll(eventIds);
+            Map<Integer, Integer> written = new HashMap<>();
+            try {
+                transactionOperations.executeWithoutResult(status -> {
+                    for (Integer eventId : eventIds) {
+                        EventTickets tickets = ticketsByEvent.get(eventId);
+                        int sold = tickets.sold.get();
+                        eventRepository.updateTicketCounter(eventId, sold, sold >= tickets.capacity);
+                        eventReadModel.ticketsFlushed(eventId, sold, sold >= tickets.capacity);
+                        cacheInvalidator.evictPerformersOfEvent(eventId);
+                        written.put(eventId, sold);
+                    }
+                });
+            } catch (RuntimeException e) {
+                dirtyEvents.addAll(eventIds);
+                throw e;
+            }
+            written.forEach((eventId, sold) -> ticketsByEvent.get(eventId).written = sold);
+        }
+        dropClosedEvents();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        log.info("Flushing ticket counters of {} events before shutdown", dirtyEvents.size());
+        flush();
+    }
+
+    // a counter that changed since its last write is kept, the change drops the next time
+    private void dropClosedEvents() {
+        LocalDateTime now = LocalDateTime.now();
+        ticketsByEvent.forEach((eventId, tickets) -> {
+            if ((tickets.deleted || tickets.eventDate.isBefore(now)) && !dirtyEvents.contains(eventId)
+                    && tickets.sold.compareAndSet(tickets.written, DROPPED)) {
+                ticketsByEvent.remove(eventId, tickets);
+            }
+        });
+    }
+
+    // the update returns the new counter, a sale that fits is a single statement
+    private int reserveInDatabase(Event event, int count) {
+        int reserved = count;
+        int sold;
+        while ((sold = eventRepository.reserveTickets(event, reserved)) == 0) {
+            int remaining = eventRepository.findRemainingTickets(event.getId());
+            if (remaining <= 0) {
+                return 0;
+            }
+            reserved = Math.min(count, remaining);
+        }
+        boolean soldOut = sold >= event.getMusicVenue().getCapacity();
+        event.setTicketCounter(sold);
+        event.setAvailableForPublic(!soldOut);
+        cacheInvalidator.evictPerformersOfEvent(event.getId());
+        releaseOnRollback(event.getId(), reserved);
+        businessMetrics.ticketsSold(reserved);
+        if (soldOut) {
+            businessMetrics.eventSoldOut();
+        }
+        return reserved;
+    }
+
+    private void releaseInDatabase(Integer eventId, int count) {
+        transactionOperations.executeWithoutResult(status -> {
+            eventRepository.releaseTickets(eventId, count);
+            cacheInvalidator.evictPerformersOfEvent(eventId);
+        });
+        eventReadModel.eventChanged(eventId);
+        businessMetrics.ticketsReleased(count);
+    }
+
+    private void releaseOnRollback(Integer eventId, int count) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                if (counterStore == TicketCounterStore.DATABASE) {
+                    businessMetrics.ticketsReleased(count);
+                } else {
+                    release(eventId, count);
+                }
+            }
+        });
+    }
+
+    private class EventTickets {
+
+        private final AtomicInteger sold;
+        private final int capacity;
+        private final LocalDateTime eventDate;
+        // the value in the database, the counter may only be dropped while it is unchanged
+        private volatile int written;
+        private volatile boolean deleted;
+
+        private EventTickets(int sold, int capacity, LocalDateTime eventDate) {
+            this.sold = new AtomicInteger(sold);
+            this.capacity = capacity;
+            this.eventDate = eventDate;
+            this.written = sold;
+        }
+
+        private int tryReserve(int count) {
+            while (true) {
+                int current = sold.get();
+                if (current == DROPPED) {
+                    return -1;
+                }
+                int reserved = Math.min(count, capacity - current);
+                if (reserved <= 0) {
+                    return 0;
+                }
+                if (sold.compareAndSet(current, current + reserved)) {
+                    if (current + reserved == capacity) {
+                        businessMetrics.eventSoldOut();
+                    }
+                    return reserved;
+                }
+            }
+        }
+
+        private boolean tryRelease(int count) {
+            while (true) {
+                int current = sold.get();
+                if (current == DROPPED) {
+                    return false;
+                }
+                if (sold.compareAndSet(current, current - count)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.domain.enums.AdmissionStatus;
+import FeelGoodApp.domain.enums.PartnerLevel;
+import FeelGoodApp.dto.AdmissionInfo;
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.exceptionhandling.AdmissionRequiredException;
+import FeelGoodApp.exceptionhandling.AdmissionTokenNotFoundException;
+import FeelGoodApp.exceptionhandling.BatchRegistrationNotAllowedException;
+import FeelGoodApp.exceptionhandling.EventIsNotAvailableForPublicException;
+import FeelGoodApp.exceptionhandling.EventNotFoundException;
+import FeelGoodApp.exceptionhandling.WaitingRoomFullException;
+import FeelGoodApp.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/** FIFO waiting room of the Events whose headliner is on event.waiting_room.min_level or above. */
+@Component
+@Slf4j
+public class WaitingRoom {
+
+    @Value("${event.waiting_room.min_level}")
+    private PartnerLevel minLevel;
+
+    @Value("${event.waiting_room.admissions_per_interval}")
+    private Integer admissionsPerInterval;
+
+    @Value("${event.waiting_room.admission_interval}")
+    private Long admissionInterval;
+
+    @Value("${event.waiting_room.admission_ttl}")
+    private Long admissionTtl;
+
+    @Value("${event.waiting_room.poll_timeout}")
+    private Long pollTimeout;
+
+    @Value("${event.waiting_room.max_waiting}")
+    private Integer maxWaiting;
+
+    private final ConcurrentMap<Integer, EventQueue> queues = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Admission> admissions = new ConcurrentHashMap<>();
+    // the tokens out of their queues, checked again admission_ttl after they left it
+    private HashedTimingWheel<Admission> expiries;
+
+    private final EventRepository eventRepository;
+    private final TransactionOperations transactionOperations;
+    private final EventReadModel eventReadModel;
+
+    public WaitingRoom(EventRepository eventRepository, TransactionOperations transactionOperations, EventReadModel eventReadModel) {
+        this.eventRepository = eventRepository;
+        this.transactionOperations = transactionOperations;
+        this.eventReadModel = eventReadModel;
+    }
+
+    @PostConstruct
+    public void init() {
+        // one turn of the wheel covers admission_ttl, a token is mostly forgotten at its first check
+        int wheelSize = (int) Math.max(1, admissionTtl / admissionInterval + 1);
+        expiries = new HashedTimingWheel<>(wheelSize, admissionInterval, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        List<PartnerLevel> levels = Arrays.stream(PartnerLevel.values())
+                .filter(this::requiresAdmission)
+                .collect(Collectors.toList());
+        List<Integer> eventIds = transactionOperations.execute(status ->
+                eventRepository.findOnSaleEventIdsByHeadlinerLevels(levels));
+        eventIds.forEach(this::open);
+        log.info("Waiting room opened for {} events", eventIds.size());
+    }
+
+    public void headlinerAssigned(Integer eventId, PartnerLevel partnerLevel) {
+        if (requiresAdmission(partnerLevel)) {
+            afterCommit(() -> open(eventId));
+        }
+    }
+
+    public void eventDeleted(Integer eventId) {
+        afterCommit(() -> close(eventId, System.currentTimeMillis()));
+    }
+
+    public void open(Integer eventId) {
+        queues.computeIfAbsent(eventId, id -> new EventQueue());
+    }
+
+    public boolean isOpen(Integer eventId) {
+        return queues.containsKey(eventId);
+    }
+
+    public void checkBatchAllowed(Integer eventId) {
+        if (isOpen(eventId)) {
+            throw new BatchRegistrationNotAllowedException(eventId);
+        }
+    }
+
+    public AdmissionInfo join(Integer eventId) {
+        long now = System.currentTimeMillis();
+        EventInfo event = eventReadModel.getEvent(eventId);
+        EventQueue queue = queues.get(eventId);
+        if (queue != null && !event.getAvailableForPublic()) {
+            throw new EventIsNotAvailableForPublicException(eventId);
+        }
+        Admission admission = new Admission(UUID.randomUUID().toString(), eventId, now);
+        // the token is numbered before anyone may look it up
+        if (queue == null) {
+            admission.admit(now);
+            left(admission);
+        } else if (!queue.enqueue(admission, maxWaiting)) {
+            // the waiting room is closed meanwhile, the token is expired
+            left(admission);
+        }
+        admissions.put(admission.token, admission);
+        return describe(admission, queue);
+    }
+
+    public AdmissionInfo status(Integer eventId, String token) {
+        Admission admission = admissions.get(token);
+        if (admission == null || !admission.eventId.equals(eventId)) {
+            throw new AdmissionTokenNotFoundException(token);
+        }
+        admission.lastSeen = System.currentTimeMillis();
+        return describe(admission, queues.get(eventId));
+    }
+
+    public void claim(Integer eventId, String token) {
+        if (!isOpen(eventId)) {
+            return;
+        }
+        Admission admission = token == null ? null : admissions.get(token);
+        if (admission == null || !admission.eventId.equals(eventId)) {
+            throw new AdmissionRequiredException(eventId);
+        }
+        if (System.currentTimeMillis() - admission.admittedAt > admissionTtl) {
+            admission.status.compareAndSet(AdmissionStatus.ADMITTED, AdmissionStatus.EXPIRED);
+        }
+        if (!admission.status.compareAndSet(AdmissionStatus.ADMITTED, AdmissionStatus.IN_USE)) {
+            throw new AdmissionRequiredException(eventId);
+        }
+    }
+
+    public void used(String token) {
+        Admission admission = token == null ? null : admissions.get(token);
+        if (admission != null && admission.status.compareAndSet(AdmissionStatus.IN_USE, AdmissionStatus.USED)) {
+            admission.lastSeen = System.currentTimeMillis();
+        }
+    }
+
+    public void release(String token) {
+        Admission admission = token == null ? null : admissions.get(token);
+        if (admission != null) {
+            admission.status.compareAndSet(AdmissionStatus.IN_USE, AdmissionStatus.ADMITTED);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${event.waiting_room.admission_interval}")
+    public void admit() {
+        long now = System.currentTimeMillis();
+        LocalDateTime today = LocalDateTime.now();
+        queues.forEach((eventId, queue) -> {
+            EventInfo event;
+            try {
+                event = eventReadModel.getEvent(eventId);
+            } catch (EventNotFoundException e) {
+                close(eventId, now);
+                return;
+            }
+            if (event.getEventDate().isBefore(today)) {
+                close(eventId, now);
+            } else if (!event.getAvailableForPublic()) {
+                // released tickets open the Event again, the queue is kept for the buyers joining then
+                queue.drain(now).forEach(this::left);
+            } else {
+                queue.admit(admissionsPerInterval, now, pollTimeout).forEach(this::left);
+            }
+        });
+        expiries.advance(now, admission -> expire(admission, now));
+    }
+
+    public int waiting(Integer eventId) {
+        EventQueue queue = queues.get(eventId);
+        return queue == null ? 0 : queue.waiting();
+    }
+
+    private void close(Integer eventId, long now) {
+        EventQueue queue = queues.remove(eventId);
+        if (queue != null) {
+            queue.close(now).forEach(this::left);
+        }
+    }
+
+    private void left(Admission admission) {
+        expiries.schedule(admission, System.currentTimeMillis() + admissionTtl);
+    }
+
+    private void expire(Admission admission, long now) {
+        if (admission.status.get() == AdmissionStatus.ADMITTED && now - admission.admittedAt > admissionTtl) {
+            admission.status.compareAndSet(AdmissionStatus.ADMITTED, AdmissionStatus.EXPIRED);
+        }
+        AdmissionStatus status = admission.status.get();
+        long lastSeen = admission.lastSeen;
+        if ((status == AdmissionStatus.USED || status == AdmissionStatus.EXPIRED) && now - lastSeen > admissionTtl) {
+            admissions.remove(admission.token, admission);
+        } else if (status == AdmissionStatus.ADMITTED) {
+            expiries.schedule(admission, admission.admittedAt + admissionTtl + 1);
+        } else {
+            expiries.schedule(admission, Math.max(now, lastSeen) + admissionTtl + 1);
+        }
+    }
+
+    private boolean requiresAdmission(PartnerLevel partnerLevel) {
+        return partnerLevel != null && partnerLevel.compareTo(minLevel) >= 0;
+    }
+
+    private AdmissionInfo describe(Admission admission, EventQueue queue) {
+        AdmissionStatus status = admission.status.get();
+        if (status != AdmissionStatus.WAITING || queue == null) {
+            return new AdmissionInfo(admission.eventId, admission.token, status, 0, 0);
+        }
+        // the tokens skipped in between are counted too, the position only gets better than told
+        long position = Math.max(1, admission.sequence - queue.head);
+        return new AdmissionInfo(admission.eventId, admission.token, status, position, admissionInterval);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class EventQueue {
+
+        private final Queue<Admission> waiting = new ConcurrentLinkedQueue<>();
+        private long joined;
+        private volatile long head;
+        private boolean closed;
+
+        private synchronized boolean enqueue(Admission admission, int maxWaiting) {
+            if (closed) {
+                admission.status.compareAndSet(AdmissionStatus.WAITING, AdmissionStatus.EXPIRED);
+                return false;
+            }
+            if (joined - head >= maxWaiting) {
+                throw new WaitingRoomFullException(admission.eventId);
+            }
+            admission.sequence = ++joined;
+            waiting.add(admission);
+            return true;
+        }
+
+        private synchronized int waiting() {
+            return (int) (joined - head);
+        }
+
+        private synchronized List<Admission> admit(int count, long now, long pollTimeout) {
+            List<Admission> taken = new ArrayList<>();
+            int admitted = 0;
+            Admission admission;
+            while (admitted < count && (admission = waiting.poll()) != null) {
+                head = admission.sequence;
+                taken.add(admission);
+                if (now - admission.lastSeen > pollTimeout) {
+                    admission.status.compareAndSet(AdmissionStatus.WAITING, AdmissionStatus.EXPIRED);
+                } else {
+                    admission.admit(now);
+                    admitted++;
+                }
+            }
+            return taken;
+        }
+
+        private synchronized List<Admission> close(long now) {
+            closed = true;
+            return drain(now);
+        }
+
+        private synchronized List<Admission> drain(long now) {
+            head = joined;
+            List<Admission> taken = new ArrayList<>(waiting);
+            waiting.clear();
+            taken.forEach(admission -> {
+                admission.lastSeen = now;
+                admission.status.compareAndSet(AdmissionStatus.WAITING, AdmissionStatus.EXPIRED);
+            });
+            return taken;
+        }
+    }
+
+    private static final class Admission {
+
+        private final String token;
+        private final Integer eventId;
+        private final AtomicReference<AdmissionStatus> status = new AtomicReference<>(AdmissionStatus.WAITING);
+        // numbered before the token is published, the position of a waiting token is counted from it
+        private volatile long sequence;
+        private volatile long lastSeen;
+        private volatile long admittedAt;
+
+        private Admission(String token, Integer eventId, long now) {
+            this.token = token;
+            this.eventId = eventId;
+            this.lastSeen = now;
+        }
+
+        private void admit(long now) {
+            admittedAt = now;
+            status.compareAndSet(AdmissionStatus.WAITING, AdmissionStatus.ADMITTED);
+        }
+    }
+}
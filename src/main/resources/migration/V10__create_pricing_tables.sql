@@ -0,0 +1,29 @@
+CREATE TABLE tier_price
+(
+    partner_level varchar(255) NOT NULL,
+    price         double       NOT NULL,
+    PRIMARY KEY (partner_level)
+);
+
+INSERT INTO tier_price(partner_level, price) VALUES ('TIER_1', 2500.0);
+INSERT INTO tier_price(partner_level, price) VALUES ('TIER_2', 5000.0);
+INSERT INTO tier_price(partner_level, price) VALUES ('TIER_3', 6500.0);
+INSERT INTO tier_price(partner_level, price) VALUES ('TIER_4', 8900.0);
+INSERT INTO tier_price(partner_level, price) VALUES ('TIER_5', 12000.0);
+
+-- the ticket price is the price of the Event multiplied by the multiplier of every matching rule
+CREATE TABLE pricing_rule
+(
+    pricing_rule_id   integer NOT NULL AUTO_INCREMENT,
+    venue_type        varchar(255),
+    min_fill_ratio    double  NOT NULL,
+    max_days_to_event integer,
+    multiplier        double  NOT NULL,
+    PRIMARY KEY (pricing_rule_id)
+);
+
+INSERT INTO pricing_rule(venue_type, min_fill_ratio, max_days_to_event, multiplier) VALUES (NULL, 0.75, NULL, 1.15);
+INSERT INTO pricing_rule(venue_type, min_fill_ratio, max_days_to_event, multiplier) VALUES (NULL, 0.9, NULL, 1.1);
+INSERT INTO pricing_rule(venue_type, min_fill_ratio, max_days_to_event, multiplier) VALUES (NULL, 0.0, 2, 1.1);
+
+ALTER TABLE participant ADD ticket_price double;
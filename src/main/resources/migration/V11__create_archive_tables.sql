@@ -0,0 +1,41 @@
+-- deleted and long past Events are moved here together with their rows by EventArchiver, no foreign keys so the
+-- referenced MusicVenues and Performers can still be deleted
+CREATE TABLE event_archive
+(
+    event_id               integer NOT NULL,
+    event_name             varchar(255),
+    event_date             datetime,
+    available_for_public   bit,
+    event_price            double,
+    number_of_sold_tickets integer,
+    music_venue_id         integer,
+    deleted                bit,
+    deleted_at             datetime,
+    archived_at            datetime,
+    PRIMARY KEY (event_id)
+);
+
+CREATE TABLE performer_at_event_archive
+(
+    performer_at_event_id integer NOT NULL,
+    event_id              integer,
+    performer_id          integer,
+    headliner             bit,
+    registered_at         datetime,
+    archived_at           datetime,
+    PRIMARY KEY (performer_at_event_id)
+);
+
+CREATE TABLE participant_archive
+(
+    participant_id    integer NOT NULL,
+    participant_name  varchar(255),
+    participant_email varchar(255),
+    ticket_price      double,
+    event_id          integer,
+    archived_at       datetime,
+    PRIMARY KEY (participant_id)
+);
+
+-- archival candidates: WHERE deleted = true AND deleted_at < ?, the past Events use idx_event_deleted_date
+CREATE INDEX idx_event_deleted_at ON event (deleted, deleted_at);
@@ -0,0 +1,12 @@
+-- participant is hash partitioned by event_id, the queries of one Event read a single partition.
+-- MySQL requires the partitioning column in every unique key and does not support foreign keys on partitioned
+-- tables: the primary key gets event_id, and the reference to event is kept by the application, Participants are
+-- only removed together with their Event by the archival job.
+ALTER TABLE participant DROP FOREIGN KEY fk_participant_event;
+
+-- the ids come from participant_seq since V8
+ALTER TABLE participant MODIFY participant_id integer NOT NULL, MODIFY event_id integer NOT NULL;
+
+ALTER TABLE participant DROP PRIMARY KEY, ADD PRIMARY KEY (participant_id, event_id);
+
+ALTER TABLE participant PARTITION BY HASH (event_id) PARTITIONS 16;
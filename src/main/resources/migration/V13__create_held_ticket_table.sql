@@ -0,0 +1,9 @@
+-- the unconfirmed holds of SeatHoldStore, armed again after a restart, expires_at is in epoch milliseconds
+CREATE TABLE held_ticket
+(
+    hold_id      varchar(36) NOT NULL,
+    event_id     integer     NOT NULL,
+    ticket_price double      NOT NULL,
+    expires_at   bigint      NOT NULL,
+    PRIMARY KEY (hold_id)
+);
@@ -0,0 +1,5 @@
+ALTER TABLE music_venue ADD version integer NOT NULL DEFAULT 0;
+
+ALTER TABLE event ADD version integer NOT NULL DEFAULT 0;
+
+ALTER TABLE performer ADD version integer NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+CREATE TABLE participant_seq
+(
+    next_val bigint
+);
+
+INSERT INTO participant_seq (next_val) SELECT COALESCE(MAX(participant_id), 0) + 1 FROM participant;
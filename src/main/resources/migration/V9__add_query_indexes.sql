@@ -0,0 +1,21 @@
+-- event listing: WHERE deleted = false ORDER BY event_date, event_id, also serves the keyset seek
+CREATE INDEX idx_event_deleted_date ON event (deleted, event_date, event_id);
+
+-- venue filter of the listing and the future events of a deleted MusicVenue
+CREATE INDEX idx_event_venue_date ON event (music_venue_id, event_date);
+
+-- a Performer can be added to an Event only once, the service already guarantees it, keep the first row if not
+DELETE duplicate
+FROM performer_at_event duplicate
+         JOIN performer_at_event original
+              ON duplicate.event_id = original.event_id
+                  AND duplicate.performer_id = original.performer_id
+                  AND duplicate.performer_at_event_id > original.performer_at_event_id;
+
+ALTER TABLE performer_at_event ADD CONSTRAINT uk_performer_at_event_event_performer UNIQUE (event_id, performer_id);
+
+-- future Events of a Performer
+CREATE INDEX idx_performer_at_event_performer_event ON performer_at_event (performer_id, event_id);
+
+-- Participants of an Event
+CREATE INDEX idx_participant_event ON participant (event_id);
@@ -0,0 +1,53 @@
+package FeelGoodApp;
+
+import org.apache.catalina.connector.Connector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIf;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class VirtualThreadConfigurationIT {
+
+    @Test
+    @EnabledIf("virtualThreadsSupported")
+    void testVirtualThreads_TomcatRunsRequestsOnVirtualThreads() throws Exception {
+        try (ConfigurableApplicationContext context = start()) {
+            TomcatWebServer webServer = (TomcatWebServer) ((ServletWebServerApplicationContext) context).getWebServer();
+            Connector connector = webServer.getTomcat().getConnector();
+            Executor executor = connector.getProtocolHandler().getExecutor();
+
+            assertThat(executor).isSameAs(context.getBean("virtualThreadExecutor", ExecutorService.class));
+            Boolean virtual = ((ExecutorService) executor)
+                    .submit(() -> (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()))
+                    .get();
+            assertThat(virtual).isTrue();
+        }
+    }
+
+    @Test
+    @DisabledIf("virtualThreadsSupported")
+    void testVirtualThreads_RefusesToStartBeforeJava21() {
+        Exception exception = assertThrows(Exception.class, this::start);
+
+        assertThat(exception).hasRootCauseInstanceOf(NoSuchMethodException.class)
+                .hasStackTraceContaining("feelgood.virtual_threads needs Java 21 or later");
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(FeelGoodApp.class)
+                .run("--server.port=0", "--feelgood.virtual_threads=true");
+    }
+
+    static boolean virtualThreadsSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+}
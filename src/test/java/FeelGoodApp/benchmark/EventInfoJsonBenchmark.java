@@ -0,0 +1,35 @@
+package FeelGoodApp.benchmark;
+
+import FeelGoodApp.dto.EventInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of the EventInfo of the seeded Event with all of its Participants, with the ObjectMapper the
+ * controllers write the responses with.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventInfoJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private EventInfo eventInfo;
+
+    @Setup
+    public void setUp(SeededApplication application) {
+        objectMapper = application.context.getBean(ObjectMapper.class);
+        eventInfo = application.eventPerformerService.getEventById(1);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(eventInfo);
+    }
+}
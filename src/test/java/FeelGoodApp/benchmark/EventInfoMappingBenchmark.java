@@ -0,0 +1,112 @@
+package FeelGoodApp.benchmark;
+
+import FeelGoodApp.domain.Event;
+import FeelGoodApp.domain.MusicVenue;
+import FeelGoodApp.domain.Participant;
+import FeelGoodApp.domain.Performer;
+import FeelGoodApp.domain.PerformersAtEvents;
+import FeelGoodApp.domain.enums.GenreType;
+import FeelGoodApp.domain.enums.PartnerLevel;
+import FeelGoodApp.domain.enums.VenueType;
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.ParticipantInfoList;
+import FeelGoodApp.dto.PerformerInfoList;
+import FeelGoodApp.mapper.EventMapper;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Mapping of an Event with 5 Performers and 1000 Participants to EventInfo, the reflective ModelMapper
+ * path the services used before compared with the hand-written mappers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventInfoMappingBenchmark {
+
+    private static final int PERFORMERS = 5;
+    private static final int PARTICIPANTS = 1000;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        MusicVenue musicVenue = new MusicVenue();
+        musicVenue.setId(1);
+        musicVenue.setName("Budapest Park");
+        musicVenue.setContactPhoneNumber("06-30-211-3221");
+        musicVenue.setAddress("Budapest, Soroksári út 60, 1095");
+        musicVenue.setCapacity(4000);
+        musicVenue.setType(VenueType.BANDSTAND);
+
+        event = new Event();
+        event.setId(1);
+        event.setEventName("Elefánt - Budapest Park");
+        event.setEventDate(LocalDateTime.now().plusMonths(1));
+        event.setAvailableForPublic(true);
+        event.setEventPrice(5000.0);
+        event.setTicketCounter(PARTICIPANTS);
+        event.setMusicVenue(musicVenue);
+
+        List<PerformersAtEvents> performersAtEvents = new ArrayList<>();
+        for (int i = 0; i < PERFORMERS; i++) {
+            Performer performer = new Performer();
+            performer.setId(i);
+            performer.setName("Performer " + i);
+            performer.setEmail("performer" + i + "@gmail.com");
+            performer.setContactPhoneNumber("06-30-211-5555");
+            performer.setGenre(GenreType.ROCK);
+            performer.setPartnerLevel(PartnerLevel.TIER_2);
+            performer.setPerformersAtEvents(new ArrayList<>());
+
+            PerformersAtEvents performersAtEvent = new PerformersAtEvents();
+            performersAtEvent.setEvent(event);
+            performersAtEvent.setPerformer(performer);
+            performersAtEvent.setHeadliner(i == 0);
+            performersAtEvents.add(performersAtEvent);
+        }
+        event.setPerformersAtEvents(performersAtEvents);
+
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            Participant participant = new Participant();
+            participant.setId(i);
+            participant.setName("Participant " + i);
+            participant.setEmail("participant" + i + "@gmail.com");
+            participant.setEvent(event);
+            participants.add(participant);
+        }
+        event.setParticipants(participants);
+    }
+
+    @Benchmark
+    public EventInfo modelMapper() {
+        EventInfo eventInfo = modelMapper.map(event, EventInfo.class);
+        List<PerformerInfoList> performerInfoList = event.getPerformersAtEvents().stream()
+                .map(PerformersAtEvents::getPerformer)
+                .map(performer -> modelMapper.map(performer, PerformerInfoList.class))
+                .collect(Collectors.toList());
+        List<ParticipantInfoList> participantInfoList = event.getParticipants().stream()
+                .map(participant -> modelMapper.map(participant, ParticipantInfoList.class))
+                .collect(Collectors.toList());
+
+        eventInfo.setPerformers(performerInfoList);
+        eventInfo.setParticipants(participantInfoList);
+        return eventInfo;
+    }
+
+    @Benchmark
+    public EventInfo handWrittenMapper() {
+        return EventMapper.toEventInfo(event);
+    }
+}
@@ -0,0 +1,151 @@
+package FeelGoodApp.benchmark;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load test of an on-sale: every client reads the Event or buys a ticket for it, waits for the
+ * response and sends its next request. Run it against the application started once in the default platform thread
+ * mode and once with --feelgood.virtual_threads=true, and compare the two result files.
+ * <p>
+ * Arguments, all optional: url, eventId, clients, warmup and duration in seconds, writeRatio (the share of the
+ * ticket purchases) and mode, the label of the result file target/loadtest-[mode].json.
+ */
+public class LoadTest {
+
+    private static final long MAX_LATENCY = TimeUnit.MINUTES.toNanos(1);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+    private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY, 3);
+    private final AtomicLong successes = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    private final String url;
+    private final int eventId;
+    private final int clients;
+    private final Duration warmup;
+    private final Duration duration;
+    private final double writeRatio;
+    private final String mode;
+
+    private volatile boolean recording;
+    private volatile boolean running = true;
+
+    private LoadTest(Map<String, String> arguments) {
+        url = arguments.getOrDefault("url", "http://localhost:8080");
+        eventId = Integer.parseInt(arguments.getOrDefault("eventId", "1"));
+        clients = Integer.parseInt(arguments.getOrDefault("clients", "10000"));
+        warmup = Duration.ofSeconds(Long.parseLong(arguments.getOrDefault("warmup", "10")));
+        duration = Duration.ofSeconds(Long.parseLong(arguments.getOrDefault("duration", "60")));
+        writeRatio = Double.parseDouble(arguments.getOrDefault("writeRatio", "0.2"));
+        mode = arguments.getOrDefault("mode", "platform");
+    }
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        Map<String, String> arguments = new HashMap<>();
+        for (String arg : args) {
+            String[] keyValue = arg.split("=", 2);
+            arguments.put(keyValue[0], keyValue[1]);
+        }
+        new LoadTest(arguments).run();
+    }
+
+    private void run() throws InterruptedException, IOException {
+        CountDownLatch finished = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            sendNext(i, finished);
+        }
+
+        Thread.sleep(warmup.toMillis());
+        latencies.reset();
+        successes.set(0);
+        rejections.set(0);
+        errors.set(0);
+        recording = true;
+        long start = System.nanoTime();
+        Thread.sleep(duration.toMillis());
+        recording = false;
+        double seconds = (System.nanoTime() - start) / 1e9;
+        running = false;
+        finished.await(1, TimeUnit.MINUTES);
+
+        report(seconds);
+    }
+
+    private void sendNext(int client, CountDownLatch finished) {
+        if (!running) {
+            finished.countDown();
+            return;
+        }
+        long sent = System.nanoTime();
+        httpClient.sendAsync(nextRequest(client), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, throwable) -> {
+                    if (recording) {
+                        latencies.recordValue(Math.min(System.nanoTime() - sent, MAX_LATENCY));
+                        if (throwable != null) {
+                            errors.incrementAndGet();
+                        } else if (response.statusCode() < 300) {
+                            successes.incrementAndGet();
+                        } else if (response.statusCode() < 500) {
+                            // a sold out Event answers 400, it is still a served request
+                            rejections.incrementAndGet();
+                        } else {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    sendNext(client, finished);
+                });
+    }
+
+    private HttpRequest nextRequest(int client) {
+        if (ThreadLocalRandom.current().nextDouble() < writeRatio) {
+            String body = "{\"name\":\"Client " + client + "\",\"email\":\"client" + client + "@gmail.com\"}";
+            return HttpRequest.newBuilder(URI.create(url + "/api/participants/" + eventId))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+        return HttpRequest.newBuilder(URI.create(url + "/api/events/" + eventId)).GET().build();
+    }
+
+    private void report(double seconds) throws IOException {
+        long served = successes.get() + rejections.get();
+        String result = String.format(Locale.ROOT,
+                "{\"mode\":\"%s\",\"clients\":%d,\"durationSeconds\":%.1f,\"throughput\":%.1f," +
+                        "\"successes\":%d,\"rejections\":%d,\"errors\":%d," +
+                        "\"p50Millis\":%.2f,\"p99Millis\":%.2f,\"p999Millis\":%.2f,\"maxMillis\":%.2f}",
+                mode, clients, seconds, served / seconds, successes.get(), rejections.get(), errors.get(),
+                millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)), millis(latencies.getMaxValue()));
+
+        Path file = Path.of("target", "loadtest-" + mode + ".json");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, result, StandardCharsets.UTF_8);
+        System.out.println(result);
+        System.out.println("Result is saved to " + file.toAbsolutePath());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,104 @@
+package FeelGoodApp.benchmark;
+
+import FeelGoodApp.FeelGoodApp;
+import FeelGoodApp.domain.enums.GenreType;
+import FeelGoodApp.domain.enums.PartnerLevel;
+import FeelGoodApp.domain.enums.VenueType;
+import FeelGoodApp.dto.command.*;
+import FeelGoodApp.service.EventPerformerService;
+import FeelGoodApp.service.MusicVenueService;
+import FeelGoodApp.service.ParticipantService;
+import FeelGoodApp.service.TicketReservationEngine;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The application without the web layer on the embedded H2 of the tests, seeded with synthetic MusicVenues,
+ * Performers and Events. Every Event has a headliner, the first one also has the given number of Participants.
+ * The scale can be changed with the JMH parameters, e.g. -p events=10000.
+ * <p>
+ * The read-through cache is switched off, so the benchmarks measure the database and the mapping, not a cache hit.
+ */
+@State(Scope.Benchmark)
+public class SeededApplication {
+
+    // large enough that saveParticipant never sells out the Event
+    private static final int CAPACITY = 10_000_000;
+    private static final int PARTICIPANT_BATCH_SIZE = 1000;
+
+    @Param("10")
+    public int musicVenues;
+
+    @Param("100")
+    public int performers;
+
+    @Param("1000")
+    public int events;
+
+    @Param("1000")
+    public int participants;
+
+    ConfigurableApplicationContext context;
+    EventPerformerService eventPerformerService;
+    ParticipantService participantService;
+    private int nextPerformer;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(FeelGoodApp.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--spring.cache.type=none",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=warn");
+        eventPerformerService = context.getBean(EventPerformerService.class);
+        participantService = context.getBean(ParticipantService.class);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    private void seed() {
+        MusicVenueService musicVenueService = context.getBean(MusicVenueService.class);
+        for (int i = 1; i <= musicVenues; i++) {
+            musicVenueService.saveMusicVenue(new MusicVenueCreateCommand("Venue " + i, "06-30-211-3221",
+                    "Budapest, Soroksári út " + i, CAPACITY, VenueType.values()[i % VenueType.values().length]));
+        }
+        for (int i = 1; i <= performers; i++) {
+            savePerformer();
+        }
+        for (int i = 1; i <= events; i++) {
+            Integer eventId = eventPerformerService.saveEvent(new EventCreateCommand(
+                    LocalDateTime.now().plusDays(1 + i % 365), 1, 1 + i % musicVenues)).getId();
+            eventPerformerService.addPerformerToEvent(eventId,
+                    new AddPerformerToEventCommand(1 + i % performers, true));
+        }
+
+        List<ParticipantCreateCommand> batch = new ArrayList<>();
+        for (int i = 1; i <= participants; i++) {
+            batch.add(new ParticipantCreateCommand("Participant " + i, "participant" + i + "@gmail.com"));
+            if (batch.size() == PARTICIPANT_BATCH_SIZE || i == participants) {
+                participantService.saveParticipants(1, batch);
+                batch = new ArrayList<>();
+            }
+        }
+        context.getBean(TicketReservationEngine.class).flush();
+    }
+
+    private void savePerformer() {
+        nextPerformer++;
+        eventPerformerService.savePerformer(new PerformerCreateCommand("Performer " + nextPerformer,
+                "performer" + nextPerformer + "@gmail.com", "06-30-211-5555",
+                GenreType.values()[nextPerformer % GenreType.values().length],
+                PartnerLevel.values()[nextPerformer % PartnerLevel.values().length]));
+    }
+}
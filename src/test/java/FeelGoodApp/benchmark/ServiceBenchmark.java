@@ -0,0 +1,68 @@
+package FeelGoodApp.benchmark;
+
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.EventInfoPage;
+import FeelGoodApp.dto.ParticipantInfo;
+import FeelGoodApp.dto.command.AddPerformerToEventCommand;
+import FeelGoodApp.dto.command.EventCreateCommand;
+import FeelGoodApp.dto.command.EventSearchCommand;
+import FeelGoodApp.dto.command.ParticipantCreateCommand;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The hot paths of the services, from the service call through the transaction and the queries to the mapped
+ * result, on the seeded H2 of {@link SeededApplication}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private static final EventSearchCommand FIRST_PAGE_OF_PUBLIC_EVENTS =
+            new EventSearchCommand(null, null, null, null, true, null, 20);
+
+    @Benchmark
+    public EventInfoPage getEvents(SeededApplication application) {
+        return application.eventPerformerService.getEvents(FIRST_PAGE_OF_PUBLIC_EVENTS);
+    }
+
+    /**
+     * Loads the Event with its Performers and all of its Participants and maps it to EventInfo.
+     */
+    @Benchmark
+    public EventInfo getEventById(SeededApplication application) {
+        return application.eventPerformerService.getEventById(1);
+    }
+
+    @Benchmark
+    public EventInfo addPerformerToEvent(SeededApplication application, NewEvent newEvent) {
+        return application.eventPerformerService.addPerformerToEvent(newEvent.eventId,
+                new AddPerformerToEventCommand(1, true));
+    }
+
+    @Benchmark
+    public ParticipantInfo saveParticipant(SeededApplication application) {
+        return application.participantService.saveParticipant(1,
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"));
+    }
+
+    /**
+     * An Event without Performers for every call of addPerformerToEvent, the same Performer can be added to it.
+     */
+    @State(Scope.Thread)
+    public static class NewEvent {
+
+        Integer eventId;
+
+        @Setup(Level.Invocation)
+        public void saveEvent(SeededApplication application) {
+            eventId = application.eventPerformerService.saveEvent(
+                    new EventCreateCommand(LocalDateTime.now().plusMonths(1), 1, 1)).getId();
+        }
+    }
+}
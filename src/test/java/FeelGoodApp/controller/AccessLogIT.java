@@ -0,0 +1,80 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.command.MusicVenueCreateCommand;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static FeelGoodApp.domain.enums.VenueType.BANDSTAND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class AccessLogIT {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    private final ListAppender<ILoggingEvent> accessLog = new ListAppender<>();
+
+    @Test
+    void testAccessLog_OneLinePerRequest() throws InterruptedException {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Budapest Park", "06-30-211-3221",
+                        "Budapest, Soroksári út 60, 1095", 4000, BANDSTAND), MusicVenueInfo.class);
+        restTemplate.getForObject("/api/musicVenues/2", String.class);
+
+        awaitLines(2);
+        assertThat(lines()).hasSize(2);
+        assertThat(lines().get(0)).startsWith("method=POST uri=/api/musicVenues query=null status=201 duration_ms=");
+        assertThat(lines().get(1)).startsWith("method=GET uri=/api/musicVenues/2 query=null status=400 duration_ms=");
+    }
+
+    @Test
+    void testAccessLog_StreamedResponseLoggedOnCompletion() throws InterruptedException {
+        String export = restTemplate.getForObject("/api/events/export?format=CSV", String.class);
+
+        assertThat(export).isNotEmpty();
+        awaitLines(1);
+        assertThat(lines()).anySatisfy(line ->
+                assertThat(line).startsWith("method=GET uri=/api/events/export query=format=CSV status=200"));
+    }
+
+    // the line is written after the response, the client may have read it already
+    private void awaitLines(int count) throws InterruptedException {
+        for (int i = 0; i < 50 && accessLog.list.size() < count; i++) {
+            Thread.sleep(100);
+        }
+    }
+
+    private List<String> lines() {
+        return accessLog.list.stream()
+                .map(ILoggingEvent::getFormattedMessage)
+                .collect(Collectors.toList());
+    }
+
+    @BeforeEach
+    void init() {
+        accessLog.start();
+        ((Logger) LoggerFactory.getLogger("access")).addAppender(accessLog);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((Logger) LoggerFactory.getLogger("access")).detachAppender(accessLog);
+    }
+}
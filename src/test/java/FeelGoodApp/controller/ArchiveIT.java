@@ -0,0 +1,116 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.PerformerInfo;
+import FeelGoodApp.dto.command.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.VenueType.BANDSTAND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"archive.retention_days=0", "archive.batch_size=1", "archive.participant_batch_size=1",
+                "archive.pause=0"})
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ArchiveIT {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testArchive_ActiveFutureEventKept() {
+        Map<String, Object> result = restTemplate.postForObject("/actuator/archive", Map.of(), Map.class);
+
+        assertThat(result).containsEntry("events", 0);
+        assertThat(count("Event")).isEqualTo(1);
+        assertThat(count("EventArchive")).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testArchive_DeletedEventMovedWithItsRows() {
+        restTemplate.postForEntity("/api/participants/1",
+                new ParticipantCreateCommand("Jane Doe", "jane@gmail.com"), String.class);
+        restTemplate.getForObject("/api/performers/1", PerformerInfo.class);
+        restTemplate.delete("/api/events/1");
+
+        Map<String, Object> result = restTemplate.postForObject("/actuator/archive", Map.of(), Map.class);
+
+        assertThat(result).containsEntry("events", 1);
+        assertThat(count("Event")).isZero();
+        assertThat(count("PerformersAtEvents")).isZero();
+        assertThat(count("Participant")).isZero();
+        assertThat(count("EventArchive")).isEqualTo(1);
+        assertThat(count("PerformerAtEventArchive")).isEqualTo(1);
+        assertThat(count("ParticipantArchive")).isEqualTo(2);
+        assertThat(restTemplate.getForObject("/api/performers/1", PerformerInfo.class).getEvents()).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testArchive_PastEventsMovedInBatches() {
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(2), 200, 1), EventInfo.class);
+        restTemplate.getForObject("/api/events/1", EventInfo.class);
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE Event e SET e.eventDate = :dateParam")
+                .setParameter("dateParam", LocalDateTime.now().minusDays(1))
+                .executeUpdate());
+
+        Map<String, Object> result = restTemplate.postForObject("/actuator/archive", Map.of(), Map.class);
+
+        assertThat(result).containsEntry("events", 2);
+        assertThat(count("Event")).isZero();
+        assertThat(count("EventArchive")).isEqualTo(2);
+        assertThat(restTemplate.getForEntity("/api/events/1", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(restTemplate.getForObject("/actuator/archive", Map.class)).containsEntry("events", 2);
+    }
+
+    private long count(String entityName) {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("SELECT COUNT(x) FROM " + entityName + " x", Long.class)
+                .getSingleResult());
+    }
+
+    @BeforeEach
+    void init() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Budapest Park", "06-30-211-3221",
+                        "Budapest, Soroksári út 60, 1095", 4000, BANDSTAND), MusicVenueInfo.class);
+
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+        restTemplate.postForEntity("/api/participants/1",
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), String.class);
+    }
+}
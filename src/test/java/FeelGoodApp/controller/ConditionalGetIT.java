@@ -0,0 +1,158 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.PerformerInfo;
+import FeelGoodApp.dto.command.*;
+import FeelGoodApp.service.EventReadModel;
+import FeelGoodApp.service.TicketReservationEngine;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_4;
+import static FeelGoodApp.domain.enums.VenueType.BANDSTAND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ConditionalGetIT {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    EventReadModel eventReadModel;
+
+    @Autowired
+    TicketReservationEngine ticketReservationEngine;
+
+    @Test
+    void testGetEventById_NotModifiedWithoutStatement() {
+        ResponseEntity<String> first = restTemplate.getForEntity("/api/events/1", String.class);
+        String eTag = first.getHeaders().getETag();
+
+        assertThat(eTag).isNotNull();
+        assertThat(first.getHeaders().getCacheControl()).isEqualTo("no-cache");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ResponseEntity<String> second = getIfNoneMatch("/api/events/1", eTag);
+
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getBody()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void testGetEventById_NewParticipantChangesETag() {
+        String eTag = restTemplate.getForEntity("/api/events/1", String.class).getHeaders().getETag();
+
+        restTemplate.postForEntity("/api/participants/1",
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), String.class);
+        ResponseEntity<String> result = getIfNoneMatch("/api/events/1", eTag);
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getHeaders().getETag()).isNotEqualTo(eTag);
+        assertThat(result.getBody()).contains("John Doe");
+    }
+
+    @Test
+    void testGetPerformerById_ModifiedTierChangesETag() {
+        String eTag = restTemplate.getForEntity("/api/performers/1", String.class).getHeaders().getETag();
+
+        assertThat(getIfNoneMatch("/api/performers/1", eTag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        restTemplate.exchange("/api/performers/1", HttpMethod.PUT,
+                new HttpEntity<>(new PerformerPartnerLevelUpdateCommand(TIER_4)), PerformerInfo.class);
+        ResponseEntity<String> result = getIfNoneMatch("/api/performers/1", eTag);
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).contains("TIER_4");
+    }
+
+    @Test
+    void testGetPerformerById_SaleChangesETag() {
+        String eTag = restTemplate.getForEntity("/api/performers/1", String.class).getHeaders().getETag();
+
+        restTemplate.postForEntity("/api/participants/1",
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), String.class);
+        ticketReservationEngine.flush();
+        ResponseEntity<String> result = getIfNoneMatch("/api/performers/1", eTag);
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getHeaders().getETag()).isNotEqualTo(eTag);
+        assertThat(result.getBody()).contains("\"ticketCounter\":201");
+    }
+
+    @Test
+    void testGetEventById_SameETagAfterRestart() {
+        String eTag = restTemplate.getForEntity("/api/events/1", String.class).getHeaders().getETag();
+
+        eventReadModel.rebuild();
+
+        assertThat(getIfNoneMatch("/api/events/1", eTag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void testGetMusicVenues_NewVenueChangesETag() {
+        ResponseEntity<String> first = restTemplate.getForEntity("/api/musicVenues", String.class);
+        String eTag = first.getHeaders().getETag();
+
+        assertThat(first.getHeaders().getCacheControl()).isEqualTo("max-age=5");
+        assertThat(getIfNoneMatch("/api/musicVenues", eTag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Akvárium Klub", "06-30-211-4444",
+                        "Budapest, Erzsébet tér 12, 1051", 1300, BANDSTAND), MusicVenueInfo.class);
+        ResponseEntity<String> result = getIfNoneMatch("/api/musicVenues", eTag);
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).contains("Akvárium Klub");
+    }
+
+    @Test
+    void testGetEvents_CacheControl() {
+        ResponseEntity<String> result = restTemplate.getForEntity("/api/events", String.class);
+
+        assertThat(result.getHeaders().getCacheControl()).isEqualTo("max-age=5");
+    }
+
+    private ResponseEntity<String> getIfNoneMatch(String url, String eTag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    @BeforeEach
+    void init() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Budapest Park", "06-30-211-3221",
+                        "Budapest, Soroksári út 60, 1095", 4000, BANDSTAND), MusicVenueInfo.class);
+
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+    }
+}
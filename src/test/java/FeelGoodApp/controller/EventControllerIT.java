@@ -1,6 +1,8 @@
 package FeelGoodApp.controller;
 
 import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.EventInfoList;
+import FeelGoodApp.dto.EventInfoPage;
 import FeelGoodApp.dto.MusicVenueInfo;
 import FeelGoodApp.dto.PerformerInfo;
 import FeelGoodApp.dto.command.*;
@@ -22,6 +24,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
 import static FeelGoodApp.domain.enums.GenreType.ROCK;
@@ -68,11 +71,12 @@ public class EventControllerIT {
 
     @Test
     void testGetEvents_Empty() {
-        ResponseEntity<EventInfo[]> resultResponseEntity = restTemplate.getForEntity("/api/events", EventInfo[].class);
-        List<EventInfo> eventInfos = List.of(Objects.requireNonNull(resultResponseEntity.getBody()));
+        ResponseEntity<EventInfoPage> resultResponseEntity = restTemplate.getForEntity("/api/events", EventInfoPage.class);
+        EventInfoPage eventInfoPage = Objects.requireNonNull(resultResponseEntity.getBody());
 
         assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(eventInfos).isEmpty();
+        assertThat(eventInfoPage.getEvents()).isEmpty();
+        assertThat(eventInfoPage.getNextCursor()).isNull();
     }
 
     @Test
@@ -80,11 +84,79 @@ public class EventControllerIT {
         testSaveEvent_Success();
         testSaveEvent_Success();
 
-        ResponseEntity<EventInfo[]> resultResponseEntity = restTemplate.getForEntity("/api/events", EventInfo[].class);
-        List<EventInfo> eventInfos = List.of(Objects.requireNonNull(resultResponseEntity.getBody()));
+        ResponseEntity<EventInfoPage> resultResponseEntity = restTemplate.getForEntity("/api/events", EventInfoPage.class);
+        EventInfoPage eventInfoPage = Objects.requireNonNull(resultResponseEntity.getBody());
 
         assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(eventInfos.size()).isEqualTo(2);
+        assertThat(eventInfoPage.getEvents().size()).isEqualTo(2);
+        assertThat(eventInfoPage.getEvents().get(0).getMusicVenue().getName()).isEqualTo("Budapest Park");
+    }
+
+    @Test
+    void testGetEvents_Pagination() {
+        for (int i = 1; i <= 5; i++) {
+            restTemplate.postForEntity("/api/events",
+                    new EventCreateCommand(LocalDateTime.now().plusDays(6 - i), 200, 1), EventInfo.class);
+        }
+
+        EventInfoPage firstPage = restTemplate.getForObject("/api/events?limit=2", EventInfoPage.class);
+        EventInfoPage secondPage = restTemplate.getForObject("/api/events?limit=2&cursor=" +
+                firstPage.getNextCursor(), EventInfoPage.class);
+        EventInfoPage lastPage = restTemplate.getForObject("/api/events?limit=2&cursor=" +
+                secondPage.getNextCursor(), EventInfoPage.class);
+
+        List<Integer> ids = Stream.of(firstPage, secondPage, lastPage)
+                .flatMap(page -> page.getEvents().stream())
+                .map(EventInfoList::getId)
+                .collect(Collectors.toList());
+
+        assertThat(ids).containsExactly(5, 4, 3, 2, 1);
+        assertThat(lastPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    void testGetEvents_Filters() {
+        testSaveEvent_Success();
+        testSaveEvent_Success();
+        restTemplate.postForEntity("/api/events/2",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+
+        EventInfoPage byGenre = restTemplate.getForObject("/api/events?genre=POST_ROCK", EventInfoPage.class);
+        EventInfoPage byPublic = restTemplate.getForObject("/api/events?availableForPublic=false", EventInfoPage.class);
+        EventInfoPage byVenue = restTemplate.getForObject("/api/events?musicVenueId=2", EventInfoPage.class);
+        EventInfoPage byDate = restTemplate.getForObject("/api/events?to=" +
+                LocalDateTime.now().plusDays(1), EventInfoPage.class);
+
+        assertThat(byGenre.getEvents()).extracting(EventInfoList::getId).containsExactly(2);
+        assertThat(byPublic.getEvents()).extracting(EventInfoList::getId).containsExactly(1);
+        assertThat(byVenue.getEvents()).isEmpty();
+        assertThat(byDate.getEvents()).isEmpty();
+    }
+
+    @Test
+    void testGetEvents_InvalidCursorException() {
+        ResponseEntity<ValidationError[]> resultResponseEntity = restTemplate.getForEntity("/api/events?cursor=abc",
+                ValidationError[].class);
+
+        ValidationError validationError = Arrays.stream(Objects.requireNonNull(resultResponseEntity.getBody()))
+                .findFirst().get();
+
+        assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(validationError.getField()).contains("cursor");
+        assertThat(validationError.getErrorMessage()).contains("Cursor abc is not valid.");
+    }
+
+    @Test
+    void testGetEvents_LimitValidation() {
+        ResponseEntity<ValidationError[]> resultResponseEntity = restTemplate.getForEntity("/api/events?limit=101",
+                ValidationError[].class);
+
+        List<String> fields = Arrays.stream(Objects.requireNonNull(resultResponseEntity.getBody()))
+                .map(ValidationError::getField)
+                .collect(Collectors.toList());
+
+        assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(fields).contains("limit");
     }
 
     @Test
@@ -0,0 +1,125 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.PerformerInfo;
+import FeelGoodApp.dto.command.*;
+import FeelGoodApp.service.TicketReservationEngine;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.VenueType.BANDSTAND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class EventReadModelIT {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    TicketReservationEngine ticketReservationEngine;
+
+    @Test
+    void testGetEventById_WarmReadModelNoStatement() {
+        restTemplate.getForObject("/api/events/1", EventInfo.class);
+
+        assertThat(countStatements("/api/events/1")).isZero();
+    }
+
+    @Test
+    void testSaveParticipant_AppendedWithoutReload() {
+        restTemplate.getForObject("/api/events/1", EventInfo.class);
+
+        restTemplate.postForEntity("/api/participants/1",
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), String.class);
+        ticketReservationEngine.flush();
+
+        assertThat(countStatements("/api/events/1")).isZero();
+        EventInfo result = restTemplate.getForObject("/api/events/1", EventInfo.class);
+        assertThat(result.getParticipants()).extracting("name").containsExactly("John Doe");
+        assertThat(result.getTicketCounter()).isEqualTo(201);
+    }
+
+    @Test
+    void testAddPerformerToEvent_ReloadedOnNextRead() {
+        restTemplate.getForObject("/api/events/1", EventInfo.class);
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Elefánt", "elefant@gmail.com",
+                        "06-30-211-6666", POST_ROCK, TIER_1), PerformerInfo.class);
+
+        restTemplate.postForEntity("/api/events/1", new AddPerformerToEventCommand(2, false), EventInfo.class);
+
+        assertThat(restTemplate.getForObject("/api/events/1", EventInfo.class).getPerformers())
+                .extracting("name").containsExactlyInAnyOrder("Képzelt Város", "Elefánt");
+        assertThat(countStatements("/api/events/1")).isZero();
+    }
+
+    @Test
+    void testDeleteEvent_RemovedFromReadModel() {
+        restTemplate.getForObject("/api/events/1", EventInfo.class);
+
+        restTemplate.delete("/api/events/1");
+
+        assertThat(restTemplate.getForEntity("/api/events/1", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRebuild_ProjectsActiveEvents() {
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(2), 200, 1), EventInfo.class);
+        restTemplate.delete("/api/events/2");
+
+        Map<String, Integer> result = restTemplate.postForObject("/actuator/eventreadmodel", Map.of(), Map.class);
+
+        assertThat(result).containsEntry("events", 1);
+        assertThat(countStatements("/api/events/1")).isZero();
+        assertThat(restTemplate.getForObject("/actuator/eventreadmodel", Map.class)).containsEntry("events", 1);
+    }
+
+    private long countStatements(String url) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ResponseEntity<String> resultResponseEntity = restTemplate.getForEntity(url, String.class);
+        assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return statistics.getPrepareStatementCount();
+    }
+
+    @BeforeEach
+    void init() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Budapest Park", "06-30-211-3221",
+                        "Budapest, Soroksári út 60, 1095", 4000, BANDSTAND), MusicVenueInfo.class);
+
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+    }
+}
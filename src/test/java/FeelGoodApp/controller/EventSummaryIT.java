@@ -0,0 +1,118 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.EventSummaryInfo;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.ParticipantInfoPage;
+import FeelGoodApp.dto.PerformerInfo;
+import FeelGoodApp.dto.command.*;
+import FeelGoodApp.exceptionhandling.ValidationError;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.VenueType.BANDSTAND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class EventSummaryIT {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testGetEventById_SummaryWithCountsInOneStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        EventSummaryInfo result = restTemplate.getForObject("/api/events/1?view=SUMMARY", EventSummaryInfo.class);
+
+        assertThat(result.getEventName()).isEqualTo("Képzelt Város - Budapest Park");
+        assertThat(result.getMusicVenue().getName()).isEqualTo("Budapest Park");
+        assertThat(result.getPerformerCount()).isEqualTo(1);
+        assertThat(result.getParticipantCount()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void testGetEventById_ViewCaseInsensitiveFullByDefault() {
+        EventSummaryInfo summary = restTemplate.getForObject("/api/events/1?view=summary", EventSummaryInfo.class);
+        EventInfo full = restTemplate.getForObject("/api/events/1", EventInfo.class);
+
+        assertThat(summary.getParticipantCount()).isEqualTo(3);
+        assertThat(full.getParticipants()).hasSize(3);
+    }
+
+    @Test
+    void testGetEventById_SummaryOfDeletedEvent() {
+        restTemplate.delete("/api/events/1");
+
+        ResponseEntity<ValidationError[]> resultResponseEntity =
+                restTemplate.getForEntity("/api/events/1?view=summary", ValidationError[].class);
+
+        assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(resultResponseEntity.getBody()[0].getErrorMessage()).isEqualTo("Event with id 1 is not found.");
+    }
+
+    @Test
+    void testGetParticipantsOfEvent_PagedByCursor() {
+        ParticipantInfoPage first = restTemplate.getForObject("/api/events/1/participants?limit=2",
+                ParticipantInfoPage.class);
+        ParticipantInfoPage second = restTemplate.getForObject("/api/events/1/participants?limit=2&cursor=" +
+                first.getNextCursor(), ParticipantInfoPage.class);
+
+        assertThat(first.getParticipants()).extracting("name").containsExactly("John Doe", "Jane Doe");
+        assertThat(second.getParticipants()).extracting("name").containsExactly("Dohn Joe");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void testGetParticipantsOfEvent_InvalidCursor() {
+        ResponseEntity<ValidationError[]> resultResponseEntity =
+                restTemplate.getForEntity("/api/events/1/participants?cursor=notACursor", ValidationError[].class);
+
+        assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(resultResponseEntity.getBody()[0].getField()).isEqualTo("cursor");
+    }
+
+    @BeforeEach
+    void init() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Budapest Park", "06-30-211-3221",
+                        "Budapest, Soroksári út 60, 1095", 4000, BANDSTAND), MusicVenueInfo.class);
+
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+        for (List<String> participant : List.of(List.of("John Doe", "jd@gmail.com"),
+                List.of("Jane Doe", "janed@gmail.com"), List.of("Dohn Joe", "dj@gmail.com"))) {
+            restTemplate.postForEntity("/api/participants/1",
+                    new ParticipantCreateCommand(participant.get(0), participant.get(1)), String.class);
+        }
+    }
+}
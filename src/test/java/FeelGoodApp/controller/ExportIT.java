@@ -0,0 +1,123 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.EventInfoList;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.ParticipantInfoList;
+import FeelGoodApp.dto.PerformerInfo;
+import FeelGoodApp.dto.command.*;
+import FeelGoodApp.exceptionhandling.ValidationError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.VenueType.BANDSTAND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ExportIT {
+
+    private static final int PARTICIPANTS = 2000;
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void testExportEvents_Ndjson() throws Exception {
+        ResponseEntity<String> resultResponseEntity = restTemplate.getForEntity("/api/events/export", String.class);
+        String[] lines = Objects.requireNonNull(resultResponseEntity.getBody()).split("\n");
+
+        assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resultResponseEntity.getHeaders().getContentType().toString()).isEqualTo("application/x-ndjson");
+        assertThat(lines).hasSize(2);
+        EventInfoList first = objectMapper.readValue(lines[0], EventInfoList.class);
+        assertThat(first.getEventName()).isEqualTo("Képzelt Város - Budapest Park");
+        assertThat(first.getMusicVenue().getName()).isEqualTo("Budapest Park");
+    }
+
+    @Test
+    void testExportEvents_Csv() {
+        ResponseEntity<String> resultResponseEntity = restTemplate.getForEntity("/api/events/export?format=CSV",
+                String.class);
+        String[] lines = Objects.requireNonNull(resultResponseEntity.getBody()).split("\n");
+
+        assertThat(resultResponseEntity.getHeaders().getContentType().toString()).startsWith("text/csv");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("id,eventName,eventDate,availableForPublic,eventPrice,ticketCounter," +
+                "musicVenueId,musicVenueName");
+        assertThat(lines[1]).startsWith("1,Képzelt Város - Budapest Park,");
+    }
+
+    @Test
+    void testExportParticipantsByEvent_NoEntitiesLoaded() throws Exception {
+        List<ParticipantCreateCommand> commands = IntStream.range(0, PARTICIPANTS)
+                .mapToObj(i -> new ParticipantCreateCommand("Participant " + i, "participant" + i + "@gmail.com"))
+                .collect(Collectors.toList());
+        restTemplate.postForEntity("/api/participants/1/batch", commands, String.class);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ResponseEntity<String> resultResponseEntity = restTemplate.getForEntity("/api/participants/1/export",
+                String.class);
+        String[] lines = Objects.requireNonNull(resultResponseEntity.getBody()).split("\n");
+
+        assertThat(lines).hasSize(PARTICIPANTS);
+        assertThat(objectMapper.readValue(lines[PARTICIPANTS - 1], ParticipantInfoList.class).getName())
+                .isEqualTo("Participant " + (PARTICIPANTS - 1));
+        // rows are projections, the only entity loaded is the Event of the existence check
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void testExportParticipantsByEvent_EventNotFoundException() {
+        ResponseEntity<ValidationError[]> resultResponseEntity = restTemplate.getForEntity(
+                "/api/participants/5/export", ValidationError[].class);
+
+        assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(resultResponseEntity.getBody()[0].getErrorMessage()).isEqualTo("Event with id 5 is not found.");
+    }
+
+    @BeforeEach
+    void init() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Budapest Park", "06-30-211-3221",
+                        "Budapest, Soroksári út 60, 1095", 4000, BANDSTAND), MusicVenueInfo.class);
+
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(2), 200, 1), EventInfo.class);
+    }
+}
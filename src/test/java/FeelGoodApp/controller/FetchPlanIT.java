@@ -0,0 +1,163 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.ParticipantInfo;
+import FeelGoodApp.dto.PerformerInfo;
+import FeelGoodApp.dto.command.*;
+import FeelGoodApp.service.TicketReservationEngine;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.VenueType.BANDSTAND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The number of SQL statements of a read endpoint must not depend on the size of its result.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class FetchPlanIT {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    TicketReservationEngine ticketReservationEngine;
+
+    private int performerCount;
+    private int participantCount;
+
+    @Test
+    void testGetEvents_QueryCountIndependentOfResultSize() {
+        long small = countStatements("/api/events");
+        addEvents(5);
+        long large = countStatements("/api/events");
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void testGetEventById_QueryCountIndependentOfResultSize() {
+        addPerformersAndParticipants(1);
+        long small = countStatements("/api/events/1");
+        addPerformersAndParticipants(5);
+        long large = countStatements("/api/events/1");
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void testGetPerformers_QueryCountIndependentOfResultSize() {
+        addPerformersAndParticipants(1);
+        addEvents(1);
+        long small = countStatements("/api/performers");
+        addPerformersAndParticipants(5);
+        addEvents(5);
+        long large = countStatements("/api/performers");
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void testGetPerformerById_QueryCountIndependentOfResultSize() {
+        addEvents(1);
+        long small = countStatements("/api/performers/1");
+        addEvents(5);
+        long large = countStatements("/api/performers/1");
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void testGetParticipantsByEvent_QueryCountIndependentOfResultSize() {
+        addPerformersAndParticipants(1);
+        long small = countStatements("/api/participants/1");
+        addPerformersAndParticipants(5);
+        long large = countStatements("/api/participants/1");
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void testGetMusicVenues_QueryCountIndependentOfResultSize() {
+        long small = countStatements("/api/musicVenues");
+        for (int i = 0; i < 5; i++) {
+            restTemplate.postForEntity("/api/musicVenues",
+                    new MusicVenueCreateCommand("Venue " + i, "06-30-211-3221",
+                            "Budapest", 4000, BANDSTAND), MusicVenueInfo.class);
+        }
+        long large = countStatements("/api/musicVenues");
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    private long countStatements(String url) {
+        // pending ticket counters would be written by the scheduler in the middle of the measurement
+        ticketReservationEngine.flush();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ResponseEntity<String> resultResponseEntity = restTemplate.getForEntity(url, String.class);
+        assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void addEvents(int count) {
+        for (int i = 0; i < count; i++) {
+            ResponseEntity<EventInfo> saved = restTemplate.postForEntity("/api/events",
+                    new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+            restTemplate.postForEntity("/api/events/" + saved.getBody().getId(),
+                    new AddPerformerToEventCommand(1, false), EventInfo.class);
+        }
+    }
+
+    private void addPerformersAndParticipants(int count) {
+        for (int i = 0; i < count; i++) {
+            performerCount++;
+            ResponseEntity<PerformerInfo> performer = restTemplate.postForEntity("/api/performers",
+                    new PerformerCreateCommand("Performer " + performerCount, "performer@gmail.com",
+                            "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+            restTemplate.postForEntity("/api/events/1",
+                    new AddPerformerToEventCommand(performer.getBody().getId(), false), EventInfo.class);
+
+            participantCount++;
+            restTemplate.postForEntity("/api/participants/1",
+                    new ParticipantCreateCommand("Participant " + participantCount, "participant@gmail.com"),
+                    ParticipantInfo.class);
+        }
+    }
+
+    @BeforeEach
+    void init() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Budapest Park", "06-30-211-3221",
+                        "Budapest, Soroksári út 60, 1095", 4000, BANDSTAND), MusicVenueInfo.class);
+
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+    }
+}
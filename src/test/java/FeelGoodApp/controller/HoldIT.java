@@ -0,0 +1,145 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.dto.*;
+import FeelGoodApp.dto.command.*;
+import FeelGoodApp.exceptionhandling.ValidationError;
+import FeelGoodApp.repository.HeldTicketRepository;
+import FeelGoodApp.service.SeatHoldStore;
+import FeelGoodApp.service.TicketAvailabilityPublisher;
+import FeelGoodApp.service.TicketReservationEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.VenueType.CLUB;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class HoldIT {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    TicketReservationEngine ticketReservationEngine;
+
+    @Autowired
+    TicketAvailabilityPublisher ticketAvailabilityPublisher;
+
+    @Autowired
+    HeldTicketRepository heldTicketRepository;
+
+    @Autowired
+    TransactionOperations transactionOperations;
+
+    @Test
+    void testConfirmHold_CreatesParticipantAtHeldPrice() {
+        HoldInfo hold = restTemplate.postForObject("/api/participants/1/holds", null, HoldInfo.class);
+
+        ResponseEntity<ParticipantInfo> result = restTemplate.postForEntity(
+                "/api/participants/1/holds/" + hold.getHoldId(),
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), ParticipantInfo.class);
+
+        assertThat(hold.getExpiresAt()).isAfter(LocalDateTime.now());
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(result.getBody().getName()).isEqualTo("John Doe");
+        assertThat(result.getBody().getTicketPrice()).isEqualTo(hold.getTicketPrice());
+        assertThat(restTemplate.getForObject("/api/participants/1", ParticipantInfoList[].class)).hasSize(1);
+    }
+
+    @Test
+    void testConfirmHold_OnlyOnce() {
+        HoldInfo hold = restTemplate.postForObject("/api/participants/1/holds", null, HoldInfo.class);
+        restTemplate.postForEntity("/api/participants/1/holds/" + hold.getHoldId(),
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), ParticipantInfo.class);
+
+        ResponseEntity<ValidationError[]> result = restTemplate.postForEntity(
+                "/api/participants/1/holds/" + hold.getHoldId(),
+                new ParticipantCreateCommand("Jane Doe", "jane@gmail.com"), ValidationError[].class);
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(result.getBody()[0].getErrorMessage())
+                .isEqualTo("Hold with id " + hold.getHoldId() + " is not found or it is expired.");
+        assertThat(restTemplate.getForObject("/api/participants/1", ParticipantInfoList[].class)).hasSize(1);
+    }
+
+    @Test
+    void testHoldTicket_RestoredAfterRestart() {
+        HoldInfo hold = restTemplate.postForObject("/api/participants/1/holds", null, HoldInfo.class);
+        SeatHoldStore restarted = new SeatHoldStore(ticketReservationEngine, ticketAvailabilityPublisher,
+                heldTicketRepository, transactionOperations, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(restarted, "ttl", 600000L);
+        ReflectionTestUtils.setField(restarted, "tick", 1000L);
+        ReflectionTestUtils.setField(restarted, "wheelSize", 16);
+        restarted.init();
+
+        restarted.restore();
+        transactionOperations.executeWithoutResult(status -> restarted.confirm(1, hold.getHoldId()));
+
+        assertThat(restarted.size()).isZero();
+        ResponseEntity<ValidationError[]> result = restTemplate.postForEntity(
+                "/api/participants/1/holds/" + hold.getHoldId(),
+                new ParticipantCreateCommand("Jane Doe", "jane@gmail.com"), ValidationError[].class);
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testHoldTicket_HeldTicketsCountAgainstCapacity() {
+        HoldInfo first = restTemplate.postForObject("/api/participants/1/holds", null, HoldInfo.class);
+        restTemplate.postForObject("/api/participants/1/holds", null, HoldInfo.class);
+        ticketReservationEngine.flush();
+
+        ResponseEntity<ValidationError[]> soldOut = restTemplate.postForEntity("/api/participants/1",
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), ValidationError[].class);
+        assertThat(soldOut.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        restTemplate.delete("/api/participants/1/holds/" + first.getHoldId());
+        ticketReservationEngine.flush();
+
+        ResponseEntity<ParticipantInfo> reopened = restTemplate.postForEntity("/api/participants/1",
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), ParticipantInfo.class);
+        assertThat(reopened.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(restTemplate.getForObject("/api/events/1", EventInfo.class).getAvailableForPublic()).isFalse();
+    }
+
+    @Test
+    void testReleaseHold_UnknownHold() {
+        ResponseEntity<ValidationError[]> result = restTemplate.exchange("/api/participants/1/holds/unknown",
+                HttpMethod.DELETE, null, ValidationError[].class);
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(result.getBody()[0].getField()).isEqualTo("holdId");
+    }
+
+    @BeforeEach
+    void init() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Dürer Kert", "06-30-211-3221",
+                        "Budapest, Öböl utca 1, 1117", 202, CLUB), MusicVenueInfo.class);
+
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+    }
+}
@@ -0,0 +1,155 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.dto.*;
+import FeelGoodApp.dto.command.*;
+import FeelGoodApp.exceptionhandling.ValidationError;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.VenueType.BANDSTAND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class IdempotencyIT {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Test
+    void testSaveParticipant_RetryReplaysResponse() {
+        ParticipantCreateCommand command = new ParticipantCreateCommand("John Doe", "jd@gmail.com");
+
+        ResponseEntity<ParticipantInfo> first = saveParticipant("key-1", command);
+        ResponseEntity<ParticipantInfo> retry = saveParticipant("key-1", command);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(first.getHeaders().containsKey("Idempotent-Replayed")).isFalse();
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(retry.getBody().getId()).isEqualTo(first.getBody().getId());
+        assertThat(restTemplate.getForObject("/api/participants/1", ParticipantInfoList[].class)).hasSize(1);
+    }
+
+    @Test
+    void testSaveParticipant_KeyReusedWithAnotherBody() {
+        saveParticipant("key-1", new ParticipantCreateCommand("John Doe", "jd@gmail.com"));
+
+        ResponseEntity<ValidationError[]> result = restTemplate.postForEntity("/api/participants/1",
+                withKey("key-1", new ParticipantCreateCommand("Jane Doe", "jane@gmail.com")), ValidationError[].class);
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(result.getBody()[0].getErrorMessage())
+                .isEqualTo("Idempotency-Key key-1 is already used with another request body.");
+        assertThat(restTemplate.getForObject("/api/participants/1", ParticipantInfoList[].class)).hasSize(1);
+    }
+
+    @Test
+    void testSaveParticipant_ConcurrentDuplicatesRunOnce() throws Exception {
+        ParticipantCreateCommand command = new ParticipantCreateCommand("John Doe", "jd@gmail.com");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<ResponseEntity<ParticipantInfo>>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> saveParticipant("key-1", command)));
+        }
+        List<Integer> ids = new ArrayList<>();
+        for (Future<ResponseEntity<ParticipantInfo>> future : futures) {
+            assertThat(future.get().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            ids.add(future.get().getBody().getId());
+        }
+        executor.shutdown();
+
+        assertThat(ids).containsOnly(ids.get(0));
+        assertThat(restTemplate.getForObject("/api/participants/1", ParticipantInfoList[].class)).hasSize(1);
+    }
+
+    @Test
+    void testModifyEventDate_FailedRequestIsNotStored() {
+        EventDateUpdateCommand futureDate = new EventDateUpdateCommand(LocalDateTime.now().plusMonths(2));
+
+        ResponseEntity<String> failed = restTemplate.exchange("/api/events/1", HttpMethod.PUT,
+                withKey("key-1", new EventDateUpdateCommand(null)), String.class);
+        ResponseEntity<EventInfo> modified = restTemplate.exchange("/api/events/1", HttpMethod.PUT,
+                withKey("key-1", futureDate), EventInfo.class);
+        ResponseEntity<EventInfo> replayed = restTemplate.exchange("/api/events/1", HttpMethod.PUT,
+                withKey("key-1", futureDate), EventInfo.class);
+
+        assertThat(failed.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(modified.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(modified.getHeaders().containsKey("Idempotent-Replayed")).isFalse();
+        assertThat(replayed.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(replayed.getBody().getEventDate()).isEqualTo(modified.getBody().getEventDate());
+    }
+
+    @Test
+    void testSaveParticipant_KeyScopedToPath() {
+        ParticipantCreateCommand command = new ParticipantCreateCommand("John Doe", "jd@gmail.com");
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/2", new AddPerformerToEventCommand(1, true), EventInfo.class);
+
+        saveParticipant("key-1", command);
+        ResponseEntity<ParticipantInfo> other = restTemplate.postForEntity("/api/participants/2",
+                withKey("key-1", command), ParticipantInfo.class);
+
+        assertThat(other.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(other.getHeaders().containsKey("Idempotent-Replayed")).isFalse();
+    }
+
+    @Test
+    void testSaveParticipant_BodyTooLarge() {
+        ParticipantCreateCommand command = new ParticipantCreateCommand("J".repeat(3_000_000), "jd@gmail.com");
+
+        ResponseEntity<ValidationError[]> result = restTemplate.postForEntity("/api/participants/1",
+                withKey("key-1", command), ValidationError[].class);
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        assertThat(restTemplate.getForObject("/api/participants/1", ParticipantInfoList[].class)).isEmpty();
+    }
+
+    private ResponseEntity<ParticipantInfo> saveParticipant(String key, ParticipantCreateCommand command) {
+        return restTemplate.postForEntity("/api/participants/1", withKey(key, command), ParticipantInfo.class);
+    }
+
+    private <T> HttpEntity<T> withKey(String key, T body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Idempotency-Key", key);
+        return new HttpEntity<>(body, headers);
+    }
+
+    @BeforeEach
+    void init() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Budapest Park", "06-30-211-3221",
+                        "Budapest, Soroksári út 60, 1095", 4000, BANDSTAND), MusicVenueInfo.class);
+
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+    }
+}
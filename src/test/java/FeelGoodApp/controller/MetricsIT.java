@@ -0,0 +1,104 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.ParticipantInfo;
+import FeelGoodApp.dto.PerformerInfo;
+import FeelGoodApp.dto.command.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDateTime;
+
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.VenueType.BANDSTAND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+// the HikariCP pool of the configured H2 is kept, an embedded test database would have no pool to measure
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// the Prometheus registry is replaced by a simple one in tests by default
+@AutoConfigureMetrics
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class MetricsIT {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Test
+    void testPrometheus_EndpointTimersWithHistogram() {
+        restTemplate.getForObject("/api/events/1", EventInfo.class);
+
+        assertThat(scrape()).contains(
+                "http_server_requests_seconds_bucket{exception=\"None\",method=\"GET\",outcome=\"SUCCESS\",status=\"200\",uri=\"/api/events/{eventId}\"");
+    }
+
+    @Test
+    void testPrometheus_RepositoryTimers() {
+        restTemplate.getForObject("/api/performers/1", PerformerInfo.class);
+
+        assertThat(scrape())
+                .contains("repository_invocations_seconds_count{exception=\"none\",method=\"findPerformerWithEventsById\",repository=\"PerformerRepository\",}")
+                .contains("repository_invocations_seconds_bucket{exception=\"none\",method=\"findPerformerWithEventsById\"");
+    }
+
+    @Test
+    void testPrometheus_HibernateStatistics() {
+        restTemplate.getForObject("/api/events/1", EventInfo.class);
+
+        assertThat(scrape())
+                .contains("hibernate_request_statements_count{method=\"GET\",uri=\"/api/events/{eventId}\",} 1.0")
+                .contains("hibernate_request_entity_loads_sum{method=\"GET\",uri=\"/api/events/{eventId}\",}")
+                .contains("hibernate_request_flushes_sum{method=\"POST\",uri=\"/api/events/{eventId}\",}")
+                .contains("hibernate_query_executions_total");
+    }
+
+    @Test
+    void testPrometheus_ConnectionPool() {
+        assertThat(scrape())
+                .contains("hikaricp_connections_active")
+                .contains("hikaricp_connections_pending");
+    }
+
+    @Test
+    void testPrometheus_BusinessCounters() {
+        restTemplate.postForEntity("/api/participants/1",
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), ParticipantInfo.class);
+
+        assertThat(scrape())
+                .contains("tickets_sold_total 1.0")
+                .contains("events_sold_out_total 0.0")
+                .contains("events_headliner_assignments_total 1.0");
+    }
+
+    private String scrape() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    @BeforeEach
+    void init() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Budapest Park", "06-30-211-3221",
+                        "Budapest, Soroksári út 60, 1095", 4000, BANDSTAND), MusicVenueInfo.class);
+
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+    }
+}
@@ -1,18 +1,27 @@
 package FeelGoodApp.controller;
 
 import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.EventInfoList;
+import FeelGoodApp.dto.EventInfoPage;
 import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.domain.enums.RegistrationStatus;
+import FeelGoodApp.dto.ParticipantBatchRowInfo;
 import FeelGoodApp.dto.ParticipantInfo;
+import FeelGoodApp.dto.ParticipantInfoList;
 import FeelGoodApp.dto.PerformerInfo;
 import FeelGoodApp.dto.command.*;
 import FeelGoodApp.exceptionhandling.ValidationError;
+import FeelGoodApp.service.TicketReservationEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.annotation.DirtiesContext;
 
@@ -21,6 +30,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
 import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
@@ -35,6 +45,9 @@ public class ParticipantControllerIT {
     @Autowired
     TestRestTemplate restTemplate;
 
+    @Autowired
+    TicketReservationEngine ticketReservationEngine;
+
     @Test
     void testSaveParticipant_Success() {
         restTemplate.postForEntity("/api/events/1",
@@ -50,6 +63,95 @@ public class ParticipantControllerIT {
         assertThat(participantInfo.getEvent().getTicketCounter()).isEqualTo(201);
     }
 
+    @Test
+    void testSaveParticipant_TicketCounterFlushed() {
+        testSaveParticipant_Success();
+        restTemplate.postForEntity("/api/participants/1",
+                new ParticipantCreateCommand("Dohn Joe", "dj@gmail.com"), ParticipantInfo.class);
+
+        ticketReservationEngine.flush();
+        EventInfo eventInfo = restTemplate.getForObject("/api/events/1", EventInfo.class);
+
+        assertThat(eventInfo.getTicketCounter()).isEqualTo(202);
+        assertThat(eventInfo.getParticipants()).hasSize(2);
+    }
+
+    @Test
+    void testSaveParticipants_JsonBatch() {
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+        List<ParticipantCreateCommand> commands = IntStream.range(0, 120)
+                .mapToObj(i -> new ParticipantCreateCommand("Participant " + i, "participant" + i + "@gmail.com"))
+                .collect(Collectors.toList());
+        commands.set(7, new ParticipantCreateCommand("", "participant7@gmail.com"));
+
+        ResponseEntity<ParticipantBatchRowInfo[]> resultResponseEntity = restTemplate.postForEntity(
+                "/api/participants/1/batch", commands, ParticipantBatchRowInfo[].class);
+        List<ParticipantBatchRowInfo> results = Arrays.asList(Objects.requireNonNull(resultResponseEntity.getBody()));
+
+        assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(results).hasSize(120);
+        assertThat(results.get(7).getStatus()).isEqualTo(RegistrationStatus.INVALID);
+        assertThat(results.stream().filter(row -> row.getStatus() == RegistrationStatus.CREATED)
+                .map(ParticipantBatchRowInfo::getParticipantId).distinct().count()).isEqualTo(119);
+
+        ParticipantInfoList[] participants = restTemplate.getForObject("/api/participants/1", ParticipantInfoList[].class);
+        assertThat(participants).hasSize(119);
+        ticketReservationEngine.flush();
+        EventInfoList event = restTemplate.getForObject("/api/events", EventInfoPage.class).getEvents().get(0);
+        assertThat(event.getTicketCounter()).isEqualTo(319);
+    }
+
+    @Test
+    void testSaveParticipants_NdjsonBatch() {
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+        String body = "{\"name\":\"John Doe\",\"email\":\"jd@gmail.com\"}\n" +
+                "\n" +
+                "{\"name\":\"Dohn Joe\",\"email\":\"dj@gmail.com\"}\n";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/x-ndjson"));
+
+        ResponseEntity<ParticipantBatchRowInfo[]> resultResponseEntity = restTemplate.postForEntity(
+                "/api/participants/1/batch", new HttpEntity<>(body, headers), ParticipantBatchRowInfo[].class);
+
+        assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(resultResponseEntity.getBody()).extracting(ParticipantBatchRowInfo::getStatus)
+                .containsExactly(RegistrationStatus.CREATED, RegistrationStatus.CREATED);
+    }
+
+    @Test
+    void testSaveParticipants_InvalidNdjsonLine() {
+        String body = "{\"name\":\"John Doe\",\"email\":\"jd@gmail.com\"}\n" +
+                "{\"name\":\"Dohn Joe\"\n";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/x-ndjson"));
+
+        ResponseEntity<ValidationError[]> resultResponseEntity = restTemplate.postForEntity(
+                "/api/participants/1/batch", new HttpEntity<>(body, headers), ValidationError[].class);
+        ValidationError validationError = Objects.requireNonNull(resultResponseEntity.getBody())[0];
+
+        assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(validationError.getField()).isEqualTo("participants");
+        assertThat(validationError.getErrorMessage()).isEqualTo("Line 2 is not a valid participant.");
+    }
+
+    @Test
+    void testSaveParticipants_NdjsonBatchTooLarge() {
+        String body = IntStream.rangeClosed(0, 5000)
+                .mapToObj(i -> "{\"name\":\"John Doe\",\"email\":\"jd" + i + "@gmail.com\"}\n")
+                .collect(Collectors.joining());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/x-ndjson"));
+
+        ResponseEntity<ValidationError[]> resultResponseEntity = restTemplate.postForEntity(
+                "/api/participants/1/batch", new HttpEntity<>(body, headers), ValidationError[].class);
+        ValidationError validationError = Objects.requireNonNull(resultResponseEntity.getBody())[0];
+
+        assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(validationError.getErrorMessage()).isEqualTo("A batch can contain at most 5000 participants.");
+    }
+
     @Test
     void testSaveEvent_AllValidation() {
         ResponseEntity<ValidationError[]> resultResponseEntity = restTemplate.postForEntity("/api/participants/1",
@@ -0,0 +1,95 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.domain.PricingRule;
+import FeelGoodApp.domain.TierPrice;
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.ParticipantInfo;
+import FeelGoodApp.dto.PerformerInfo;
+import FeelGoodApp.dto.command.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.VenueType.BANDSTAND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class PricingIT {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Test
+    void testSaveParticipant_BasePriceWithoutRules() {
+        ParticipantInfo result = restTemplate.postForObject("/api/participants/1",
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), ParticipantInfo.class);
+
+        assertThat(result.getTicketPrice()).isEqualTo(3000.0);
+    }
+
+    @Test
+    void testSaveParticipant_QuotedWithReloadedRules() {
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.persist(new PricingRule(null, BANDSTAND, 0.0, null, 1.5)));
+        restTemplate.postForObject("/actuator/pricing", Map.of(), Map.class);
+
+        ParticipantInfo result = restTemplate.postForObject("/api/participants/1",
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), ParticipantInfo.class);
+
+        assertThat(result.getTicketPrice()).isEqualTo(4500.0);
+        assertThat(restTemplate.getForObject("/api/events/1", EventInfo.class).getEventPrice()).isEqualTo(3000.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReload_TierPriceTableOverridesConfiguration() {
+        long version = ((Number) restTemplate.getForObject("/actuator/pricing", Map.class).get("version")).longValue();
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(new TierPrice(TIER_1, 3300.0)));
+
+        Map<String, Object> result = restTemplate.postForObject("/actuator/pricing", Map.of(), Map.class);
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(2), 200, 1), EventInfo.class);
+        EventInfo event = restTemplate.postForObject("/api/events/2",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+
+        assertThat(((Number) result.get("version")).longValue()).isEqualTo(version + 1);
+        assertThat((Map<String, Object>) result.get("tierPrices")).containsEntry("TIER_1", 3300.0);
+        assertThat(event.getEventPrice()).isEqualTo(3300.0);
+    }
+
+    @BeforeEach
+    void init() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Budapest Park", "06-30-211-3221",
+                        "Budapest, Soroksári út 60, 1095", 4000, BANDSTAND), MusicVenueInfo.class);
+
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+    }
+}
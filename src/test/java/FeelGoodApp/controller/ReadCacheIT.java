@@ -0,0 +1,136 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.PerformerInfo;
+import FeelGoodApp.dto.command.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_4;
+import static FeelGoodApp.domain.enums.VenueType.BANDSTAND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ReadCacheIT {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void testGetPerformerById_WarmCacheNoStatement() {
+        restTemplate.getForObject("/api/performers/1", PerformerInfo.class);
+
+        assertThat(countStatements("/api/performers/1")).isZero();
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "performers").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testGetMusicVenueById_WarmCacheNoStatement() {
+        restTemplate.getForObject("/api/musicVenues/1", MusicVenueInfo.class);
+
+        assertThat(countStatements("/api/musicVenues/1")).isZero();
+    }
+
+    @Test
+    void testModifyPerformerTier_EvictsPerformerAndItsEvents() {
+        restTemplate.getForObject("/api/performers/1", PerformerInfo.class);
+        restTemplate.getForObject("/api/events/1", EventInfo.class);
+
+        restTemplate.exchange("/api/performers/1", HttpMethod.PUT,
+                new HttpEntity<>(new PerformerPartnerLevelUpdateCommand(TIER_4)), PerformerInfo.class);
+
+        assertThat(restTemplate.getForObject("/api/performers/1", PerformerInfo.class).getPartnerLevel())
+                .isEqualTo(TIER_4);
+        assertThat(restTemplate.getForObject("/api/events/1", EventInfo.class).getPerformers().get(0)
+                .getPartnerLevel()).isEqualTo(TIER_4);
+    }
+
+    @Test
+    void testModifyEventDate_EvictsEventAndItsPerformers() {
+        LocalDateTime newDate = LocalDateTime.now().plusMonths(2).withNano(0);
+        restTemplate.getForObject("/api/performers/1", PerformerInfo.class);
+        restTemplate.getForObject("/api/events/1", EventInfo.class);
+
+        restTemplate.exchange("/api/events/1", HttpMethod.PUT,
+                new HttpEntity<>(new EventDateUpdateCommand(newDate)), EventInfo.class);
+
+        assertThat(restTemplate.getForObject("/api/events/1", EventInfo.class).getEventDate()).isEqualTo(newDate);
+        assertThat(restTemplate.getForObject("/api/performers/1", PerformerInfo.class).getEvents().get(0)
+                .getEventDate()).isEqualTo(newDate);
+    }
+
+    @Test
+    void testDeleteMusicVenue_EvictsVenueAndItsEvents() {
+        restTemplate.getForObject("/api/musicVenues/1", MusicVenueInfo.class);
+        restTemplate.getForObject("/api/events/1", EventInfo.class);
+
+        restTemplate.delete("/api/musicVenues/1");
+
+        assertThat(restTemplate.getForEntity("/api/musicVenues/1", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(restTemplate.getForEntity("/api/events/1", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(restTemplate.getForObject("/api/performers/1", PerformerInfo.class).getEvents()).isEmpty();
+    }
+
+    @Test
+    void testSaveParticipant_EvictsEvent() {
+        restTemplate.getForObject("/api/events/1", EventInfo.class);
+
+        restTemplate.postForEntity("/api/participants/1",
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), String.class);
+
+        assertThat(restTemplate.getForObject("/api/events/1", EventInfo.class).getParticipants()).hasSize(1);
+    }
+
+    private long countStatements(String url) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ResponseEntity<String> resultResponseEntity = restTemplate.getForEntity(url, String.class);
+        assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return statistics.getPrepareStatementCount();
+    }
+
+    @BeforeEach
+    void init() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Budapest Park", "06-30-211-3221",
+                        "Budapest, Soroksári út 60, 1095", 4000, BANDSTAND), MusicVenueInfo.class);
+
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+    }
+}
@@ -0,0 +1,120 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.PerformerInfo;
+import FeelGoodApp.dto.command.*;
+import FeelGoodApp.service.TicketAvailabilityPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.VenueType.BANDSTAND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@Timeout(30)
+public class TicketAvailabilityIT {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    TicketAvailabilityPublisher ticketAvailabilityPublisher;
+
+    @LocalServerPort
+    int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void testStreamTicketAvailability_CurrentStateFirst() throws Exception {
+        try (Stream<String> lines = subscribe(1)) {
+            Iterator<String> messages = messages(lines);
+
+            assertThat(messages.next())
+                    .isEqualTo("{\"eventId\":1,\"ticketCounter\":200,\"capacity\":4000,\"availableForPublic\":true}");
+            assertThat(ticketAvailabilityPublisher.subscribers()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testStreamTicketAvailability_SalesCoalesced() throws Exception {
+        try (Stream<String> lines = subscribe(1)) {
+            Iterator<String> messages = messages(lines);
+            messages.next();
+
+            restTemplate.postForEntity("/api/participants/1",
+                    new ParticipantCreateCommand("John Doe", "jd@gmail.com"), String.class);
+            restTemplate.postForEntity("/api/participants/1/batch",
+                    List.of(new ParticipantCreateCommand("Jane Doe", "jane@gmail.com"),
+                            new ParticipantCreateCommand("Jim Doe", "jim@gmail.com")), String.class);
+
+            String update = messages.next();
+            if (!update.contains("\"ticketCounter\":203")) {
+                // the first publication can come between the two registrations
+                update = messages.next();
+            }
+            assertThat(update).contains("\"ticketCounter\":203");
+        }
+    }
+
+    @Test
+    void testStreamTicketAvailability_EventNotFound() {
+        assertThat(restTemplate.getForEntity("/api/events/5/availability", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private Stream<String> subscribe(int eventId) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/events/" + eventId + "/availability"))
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+        HttpResponse<Stream<String>> response = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response.body();
+    }
+
+    private Iterator<String> messages(Stream<String> lines) {
+        return lines.filter(line -> line.startsWith("data:"))
+                .map(line -> line.substring("data:".length()))
+                .iterator();
+    }
+
+    @BeforeEach
+    void init() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Budapest Park", "06-30-211-3221",
+                        "Budapest, Soroksári út 60, 1095", 4000, BANDSTAND), MusicVenueInfo.class);
+
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+    }
+}
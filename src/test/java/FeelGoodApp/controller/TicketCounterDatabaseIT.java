@@ -0,0 +1,153 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.domain.enums.RegistrationStatus;
+import FeelGoodApp.dto.*;
+import FeelGoodApp.dto.command.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.VenueType.CLUB;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The ticket counter kept in the database: every sale is written right away, without a flush.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "event.tickets.counter=database")
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class TicketCounterDatabaseIT {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Test
+    void testSaveParticipant_CounterWrittenInTheSale() {
+        ParticipantInfo result = restTemplate.postForObject("/api/participants/1",
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), ParticipantInfo.class);
+
+        assertThat(result.getName()).isEqualTo("John Doe");
+        assertThat(result.getEvent().getTicketCounter()).isEqualTo(201);
+        assertThat(summary().getTicketCounter()).isEqualTo(201);
+        assertThat(summary().isAvailableForPublic()).isTrue();
+    }
+
+    @Test
+    void testSaveParticipant_CachedPerformerSeesTheSale() {
+        restTemplate.getForObject("/api/performers/1", PerformerInfo.class);
+
+        restTemplate.postForObject("/api/participants/1",
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), ParticipantInfo.class);
+
+        EventInfoList event = restTemplate.getForObject("/api/performers/1", PerformerInfo.class).getEvents().get(0);
+        assertThat(event.getTicketCounter()).isEqualTo(201);
+    }
+
+    @Test
+    void testSaveParticipant_LastTicketWithdrawsEvent() {
+        for (int i = 0; i < 10; i++) {
+            restTemplate.postForEntity("/api/participants/1",
+                    new ParticipantCreateCommand("Participant " + i, "participant" + i + "@gmail.com"), String.class);
+        }
+
+        ResponseEntity<String> resultResponseEntity = restTemplate.postForEntity("/api/participants/1",
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), String.class);
+
+        assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(summary().getTicketCounter()).isEqualTo(210);
+        assertThat(summary().isAvailableForPublic()).isFalse();
+        assertThat(restTemplate.getForObject("/api/events/1", EventInfo.class).getAvailableForPublic()).isFalse();
+    }
+
+    @Test
+    void testSaveParticipants_BatchGetsTheRemainingTickets() {
+        List<ParticipantCreateCommand> commands = IntStream.range(0, 12)
+                .mapToObj(i -> new ParticipantCreateCommand("Participant " + i, "participant" + i + "@gmail.com"))
+                .collect(Collectors.toList());
+
+        ParticipantBatchRowInfo[] results = restTemplate.postForObject("/api/participants/1/batch", commands,
+                ParticipantBatchRowInfo[].class);
+
+        assertThat(Arrays.stream(results).filter(row -> row.getStatus() == RegistrationStatus.CREATED)).hasSize(10);
+        assertThat(Arrays.stream(results).filter(row -> row.getStatus() == RegistrationStatus.SOLD_OUT)).hasSize(2);
+        assertThat(summary().getTicketCounter()).isEqualTo(210);
+        assertThat(summary().getParticipantCount()).isEqualTo(10);
+    }
+
+    @Test
+    void testSaveParticipant_ConcurrentSalesNeverOversell() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<ResponseEntity<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            ParticipantCreateCommand command =
+                    new ParticipantCreateCommand("Participant " + i, "participant" + i + "@gmail.com");
+            futures.add(executor.submit(() -> restTemplate.postForEntity("/api/participants/1", command, String.class)));
+        }
+        int created = 0;
+        for (Future<ResponseEntity<String>> future : futures) {
+            if (future.get().getStatusCode() == HttpStatus.CREATED) {
+                created++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(created).isEqualTo(10);
+        assertThat(summary().getTicketCounter()).isEqualTo(210);
+        assertThat(summary().getParticipantCount()).isEqualTo(10);
+    }
+
+    @Test
+    void testReleaseHold_ReopensSoldOutEvent() {
+        List<HoldInfo> holds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            holds.add(restTemplate.postForObject("/api/participants/1/holds", null, HoldInfo.class));
+        }
+        assertThat(summary().isAvailableForPublic()).isFalse();
+
+        restTemplate.delete("/api/participants/1/holds/" + holds.get(0).getHoldId());
+
+        assertThat(summary().getTicketCounter()).isEqualTo(209);
+        assertThat(summary().isAvailableForPublic()).isTrue();
+        assertThat(restTemplate.postForEntity("/api/participants/1/holds", null, HoldInfo.class).getStatusCode())
+                .isEqualTo(HttpStatus.CREATED);
+    }
+
+    private EventSummaryInfo summary() {
+        return restTemplate.getForObject("/api/events/1?view=summary", EventSummaryInfo.class);
+    }
+
+    @BeforeEach
+    void init() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Dürer Kert", "06-30-211-3221",
+                        "Budapest, Öböl utca 1, 1117", 210, CLUB), MusicVenueInfo.class);
+
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+    }
+}
@@ -0,0 +1,175 @@
+package FeelGoodApp.controller;
+
+import FeelGoodApp.dto.AdmissionInfo;
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.ParticipantInfo;
+import FeelGoodApp.dto.ParticipantInfoList;
+import FeelGoodApp.dto.PerformerInfo;
+import FeelGoodApp.dto.command.*;
+import FeelGoodApp.exceptionhandling.ValidationError;
+import FeelGoodApp.service.WaitingRoom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static FeelGoodApp.domain.enums.AdmissionStatus.*;
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.GenreType.ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_5;
+import static FeelGoodApp.domain.enums.VenueType.BANDSTAND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"event.waiting_room.admission_interval=3600000", "event.waiting_room.admissions_per_interval=1"})
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class WaitingRoomIT {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    WaitingRoom waitingRoom;
+
+    @Test
+    void testSaveParticipant_TokenRequiredOnlyForTopTierHeadliner() {
+        ResponseEntity<ValidationError[]> rejected = buy(1, null, ValidationError[].class);
+        ResponseEntity<ParticipantInfo> created = buy(2, null, ParticipantInfo.class);
+
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(rejected.getBody()[0].getField()).isEqualTo("Admission-Token");
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    @Test
+    void testWaitingRoom_AdmitsInArrivalOrder() {
+        AdmissionInfo first = join(1);
+        AdmissionInfo second = join(1);
+
+        assertThat(first.getStatus()).isEqualTo(WAITING);
+        assertThat(first.getPosition()).isEqualTo(1);
+        assertThat(second.getPosition()).isEqualTo(2);
+        assertThat(buy(1, first.getToken(), ValidationError[].class).getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+
+        waitingRoom.admit();
+
+        assertThat(poll(1, first.getToken()).getStatus()).isEqualTo(ADMITTED);
+        AdmissionInfo secondPolled = poll(1, second.getToken());
+        assertThat(secondPolled.getStatus()).isEqualTo(WAITING);
+        assertThat(secondPolled.getPosition()).isEqualTo(1);
+
+        assertThat(buy(1, first.getToken(), ParticipantInfo.class).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(buy(1, first.getToken(), ValidationError[].class).getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(poll(1, first.getToken()).getStatus()).isEqualTo(USED);
+        assertThat(restTemplate.getForObject("/api/participants/1", ParticipantInfoList[].class)).hasSize(1);
+    }
+
+    @Test
+    void testWaitingRoom_EventWithoutQueueAdmitsAtOnce() {
+        AdmissionInfo admission = join(2);
+
+        assertThat(admission.getStatus()).isEqualTo(ADMITTED);
+        assertThat(admission.getPosition()).isZero();
+        assertThat(buy(2, admission.getToken(), ParticipantInfo.class).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    @Test
+    void testWaitingRoom_DeletedEventExpiresTokens() {
+        AdmissionInfo admission = join(1);
+
+        restTemplate.delete("/api/events/1");
+
+        assertThat(poll(1, admission.getToken()).getStatus()).isEqualTo(EXPIRED);
+        assertThat(waitingRoom.isOpen(1)).isFalse();
+    }
+
+    @Test
+    void testSaveParticipants_NoBatchThroughWaitingRoom() {
+        AdmissionInfo admission = join(1);
+        waitingRoom.admit();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Admission-Token", admission.getToken());
+
+        ResponseEntity<ValidationError[]> rejected = restTemplate.postForEntity("/api/participants/1/batch",
+                new HttpEntity<>(List.of(new ParticipantCreateCommand("John Doe", "jd@gmail.com")), headers),
+                ValidationError[].class);
+
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(rejected.getBody()[0].getField()).isEqualTo("eventId");
+        assertThat(restTemplate.getForObject("/api/participants/1", ParticipantInfoList[].class)).isEmpty();
+    }
+
+    @Test
+    void testJoinWaitingRoom_UnknownEvent() {
+        ResponseEntity<ValidationError[]> result = restTemplate.postForEntity("/api/participants/99/admissions",
+                null, ValidationError[].class);
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(result.getBody()[0].getField()).isEqualTo("eventId");
+    }
+
+    @Test
+    void testGetAdmission_UnknownToken() {
+        AdmissionInfo admission = join(1);
+
+        ResponseEntity<ValidationError[]> result = restTemplate.getForEntity(
+                "/api/participants/2/admissions/" + admission.getToken(), ValidationError[].class);
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(result.getBody()[0].getErrorMessage())
+                .isEqualTo("Admission token " + admission.getToken() + " is not found.");
+    }
+
+    private AdmissionInfo join(int eventId) {
+        return restTemplate.postForObject("/api/participants/" + eventId + "/admissions", null, AdmissionInfo.class);
+    }
+
+    private AdmissionInfo poll(int eventId, String token) {
+        return restTemplate.getForObject("/api/participants/" + eventId + "/admissions/" + token, AdmissionInfo.class);
+    }
+
+    private <T> ResponseEntity<T> buy(int eventId, String token, Class<T> responseType) {
+        HttpHeaders headers = new HttpHeaders();
+        if (token != null) {
+            headers.set("Admission-Token", token);
+        }
+        return restTemplate.postForEntity("/api/participants/" + eventId,
+                new HttpEntity<>(new ParticipantCreateCommand("John Doe", "jd@gmail.com"), headers), responseType);
+    }
+
+    @BeforeEach
+    void init() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Budapest Park", "06-30-211-3221",
+                        "Budapest, Soroksári út 60, 1095", 4000, BANDSTAND), MusicVenueInfo.class);
+
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Yara", "yara@gmail.com",
+                        "06-30-211-5555", ROCK, TIER_5), PerformerInfo.class);
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5556", POST_ROCK, TIER_1), PerformerInfo.class);
+
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/2",
+                new AddPerformerToEventCommand(2, true), EventInfo.class);
+    }
+}
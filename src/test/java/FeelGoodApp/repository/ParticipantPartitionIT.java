@@ -0,0 +1,125 @@
+package FeelGoodApp.repository;
+
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.ParticipantInfo;
+import FeelGoodApp.dto.PerformerInfo;
+import FeelGoodApp.dto.command.*;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.VenueType.BANDSTAND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The participant table is hash partitioned by event_id in MySQL, H2 keeps it as a single table. A query reads one
+ * partition only if it filters on the event_id column of participant itself, this test checks the recorded SQL of
+ * every participant read for such a filter, so it guards the pruning on H2 as well.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class ParticipantPartitionIT {
+
+    // the alias Hibernate gives to the participant table in a statement
+    private static final Pattern PARTICIPANT_ALIAS = Pattern.compile("(?:from|join) participant (\\w+)");
+
+    // a participant joined to a single Event by its id: MySQL reads the Event first as a constant table and prunes
+    // with the substituted event_id
+    private static final String JOINED_TO_ONE_EVENT = "(\\w+)\\.event_id=%s\\.event_id .*where \\1\\.event_id=\\?";
+
+    private static final Set<String> statements = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Test
+    void testParticipantQueries_FilterOnPartitionColumn() {
+        exerciseParticipants();
+
+        List<String> participantReads = statements.stream()
+                .map(sql -> sql.toLowerCase(Locale.ROOT))
+                .filter(sql -> PARTICIPANT_ALIAS.matcher(sql).find())
+                .collect(Collectors.toList());
+
+        assertThat(participantReads).isNotEmpty();
+        assertThat(participantReads).allSatisfy(sql -> {
+            Matcher alias = PARTICIPANT_ALIAS.matcher(sql);
+            assertThat(alias.find()).isTrue();
+            assertThat(sql).containsPattern(alias.group(1) + "\\.event_id ?(?:=\\?|in)|" +
+                    String.format(JOINED_TO_ONE_EVENT, alias.group(1)));
+        });
+    }
+
+    @Test
+    void testParticipantTable_NoForeignKey() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             ResultSet foreignKeys = connection.getMetaData().getImportedKeys(null, null, "PARTICIPANT")) {
+            assertThat(foreignKeys.next()).isFalse();
+        }
+    }
+
+    private void exerciseParticipants() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Budapest Park", "06-30-211-3221",
+                        "Budapest, Soroksári út 60, 1095", 4000, BANDSTAND), MusicVenueInfo.class);
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1", new AddPerformerToEventCommand(1, true), EventInfo.class);
+        restTemplate.postForEntity("/api/participants/1",
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), ParticipantInfo.class);
+        restTemplate.postForEntity("/api/participants/1/batch",
+                List.of(new ParticipantCreateCommand("Dohn Joe", "dj@gmail.com")), String.class);
+
+        statements.clear();
+
+        restTemplate.getForObject("/api/events/1", String.class);
+        restTemplate.getForObject("/api/participants/1", String.class);
+        restTemplate.getForObject("/api/participants/1/export", String.class);
+        restTemplate.getForObject("/api/events/1?view=summary", String.class);
+        restTemplate.getForObject("/api/events/1/participants?limit=1", String.class);
+    }
+
+    @TestConfiguration
+    static class RecordingConfiguration {
+
+        @Bean
+        HibernatePropertiesCustomizer participantStatementInspector() {
+            StatementInspector inspector = sql -> {
+                statements.add(sql);
+                return sql;
+            };
+            return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package FeelGoodApp.repository;
+
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.EventInfoPage;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.ParticipantInfo;
+import FeelGoodApp.dto.ParticipantInfoPage;
+import FeelGoodApp.dto.PerformerInfo;
+import FeelGoodApp.dto.command.*;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_3;
+import static FeelGoodApp.domain.enums.VenueType.BANDSTAND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every repository query through the endpoints, then EXPLAINs each recorded statement and fails if one of
+ * them reads a whole table. The listings of the whole catalogue are the only statements allowed to do so.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class QueryPlanIT {
+
+    // H2 names the access method of every table in the plan, e.g. /* PUBLIC.EVENT.tableScan */
+    private static final Pattern H2_TABLE_SCAN = Pattern.compile("/\\* PUBLIC\\.(\\w+)\\.tableScan");
+
+    // the listings of all MusicVenues and all Performers may read their driving table as a whole
+    private static final Pattern FULL_LISTING = Pattern.compile("from (music_venue|performer) (\\w+) ");
+
+    private static final Set<String> statements = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Test
+    void testRepositoryQueries_NoFullTableScan() throws SQLException {
+        exerciseRepositories();
+
+        List<String> fullScans = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean mySql = connection.getMetaData().getDatabaseProductName().equals("MySQL");
+            for (String sql : statements) {
+                Matcher listing = FULL_LISTING.matcher(sql.toLowerCase(Locale.ROOT));
+                boolean isListing = listing.find();
+                for (String table : fullScans(connection, sql, mySql)) {
+                    boolean drivingTable = isListing &&
+                            (table.equalsIgnoreCase(listing.group(1)) || table.equalsIgnoreCase(listing.group(2)));
+                    if (!drivingTable) {
+                        fullScans.add(table + ": " + sql);
+                    }
+                }
+            }
+        }
+
+        assertThat(statements).isNotEmpty();
+        assertThat(fullScans).isEmpty();
+    }
+
+    private List<String> fullScans(Connection connection, String sql, boolean mySql) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 1; i <= explain.getParameterMetaData().getParameterCount(); i++) {
+                explain.setNull(i, Types.NULL);
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                while (resultSet.next()) {
+                    if (mySql) {
+                        // access type ALL is a full scan of the table (alias) of the row
+                        if ("ALL".equals(resultSet.getString("type"))) {
+                            tables.add(resultSet.getString("table"));
+                        }
+                    } else {
+                        Matcher matcher = H2_TABLE_SCAN.matcher(resultSet.getString(1));
+                        while (matcher.find()) {
+                            tables.add(matcher.group(1));
+                        }
+                    }
+                }
+            }
+        }
+        return tables;
+    }
+
+    private void exerciseRepositories() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Budapest Park", "06-30-211-3221",
+                        "Budapest, Soroksári út 60, 1095", 4000, BANDSTAND), MusicVenueInfo.class);
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Elefánt", "elefant@gmail.com",
+                        "06-30-211-4444", POST_ROCK, TIER_1), PerformerInfo.class);
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(2), 200, 1), EventInfo.class);
+
+        statements.clear();
+
+        restTemplate.postForEntity("/api/events/1", new AddPerformerToEventCommand(1, true), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1", new AddPerformerToEventCommand(2, false), EventInfo.class);
+        restTemplate.postForEntity("/api/events/2", new AddPerformerToEventCommand(2, true), EventInfo.class);
+        restTemplate.postForEntity("/api/participants/1",
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"), ParticipantInfo.class);
+        restTemplate.postForEntity("/api/participants/1/batch",
+                List.of(new ParticipantCreateCommand("Dohn Joe", "dj@gmail.com")), String.class);
+
+        String cursor = restTemplate.getForObject("/api/events?limit=1", EventInfoPage.class)
+                .getNextCursor();
+        restTemplate.getForObject("/api/events?musicVenueId=1&from=" + LocalDateTime.now() +
+                "&to=" + LocalDateTime.now().plusYears(1) + "&genre=POST_ROCK&availableForPublic=true" +
+                "&cursor=" + cursor, String.class);
+        restTemplate.getForObject("/api/events/1", String.class);
+        restTemplate.getForObject("/api/events/1?view=summary", String.class);
+        String participantCursor = restTemplate.getForObject("/api/events/1/participants?limit=1",
+                ParticipantInfoPage.class).getNextCursor();
+        restTemplate.getForObject("/api/events/1/participants?cursor=" + participantCursor, String.class);
+        restTemplate.getForObject("/api/performers", String.class);
+        restTemplate.getForObject("/api/performers/1", String.class);
+        restTemplate.getForObject("/api/musicVenues", String.class);
+        restTemplate.getForObject("/api/musicVenues/1", String.class);
+        restTemplate.getForObject("/api/participants/1", String.class);
+        restTemplate.getForObject("/api/events/export", String.class);
+        restTemplate.getForObject("/api/participants/1/export", String.class);
+
+        restTemplate.exchange("/api/events/1/2", HttpMethod.DELETE, null, String.class);
+        restTemplate.exchange("/api/events/1", HttpMethod.PUT,
+                new HttpEntity<>(new EventDateUpdateCommand(LocalDateTime.now().plusMonths(3))), String.class);
+        restTemplate.exchange("/api/performers/1", HttpMethod.PUT,
+                new HttpEntity<>(new PerformerPartnerLevelUpdateCommand(TIER_3)), String.class);
+        restTemplate.delete("/api/performers/2");
+        restTemplate.delete("/api/events/1");
+        restTemplate.delete("/api/musicVenues/1");
+    }
+
+    @TestConfiguration
+    static class RecordingConfiguration {
+
+        @Bean
+        HibernatePropertiesCustomizer recordingStatementInspector() {
+            StatementInspector inspector = sql -> {
+                String lowerCase = sql.toLowerCase(Locale.ROOT);
+                if (lowerCase.startsWith("select") || lowerCase.startsWith("update") || lowerCase.startsWith("delete")) {
+                    statements.add(sql);
+                }
+                return sql;
+            };
+            return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package FeelGoodApp.repository;
+
+import FeelGoodApp.domain.Event;
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.PerformerInfo;
+import FeelGoodApp.dto.command.*;
+import FeelGoodApp.service.TicketReservationEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static FeelGoodApp.domain.enums.GenreType.POST_ROCK;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_5;
+import static FeelGoodApp.domain.enums.VenueType.BANDSTAND;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class SecondLevelCacheIT {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    TicketReservationEngine ticketReservationEngine;
+
+    @Test
+    void testFindAllMusicVenues_CachedQueryNoStatement() {
+        restTemplate.getForObject("/api/musicVenues", MusicVenueInfo[].class);
+
+        assertThat(countStatements("/api/musicVenues")).isZero();
+        assertThat(statistics().getDomainDataRegionStatistics("FeelGoodApp.domain.MusicVenue").getHitCount())
+                .isPositive();
+    }
+
+    @Test
+    void testFindAllMusicVenues_InvalidatedBySave() {
+        restTemplate.getForObject("/api/musicVenues", MusicVenueInfo[].class);
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Akvárium Klub", "06-30-211-1111",
+                        "Budapest, Erzsébet tér 12, 1051", 1300, BANDSTAND), MusicVenueInfo.class);
+
+        assertThat(restTemplate.getForObject("/api/musicVenues", MusicVenueInfo[].class)).hasSize(2);
+    }
+
+    @Test
+    void testFindEventById_EventNotCached() {
+        // the participant page finds the Event by id
+        restTemplate.getForObject("/api/events/1/participants", String.class);
+
+        assertThat(entityManagerFactory.getCache().contains(Event.class, 1)).isFalse();
+        assertThat(statistics().getSecondLevelCacheRegionNames()).doesNotContain("FeelGoodApp.domain.Event");
+    }
+
+    @Test
+    void testFindAllPerformers_InvalidatedByUpdate() {
+        restTemplate.getForObject("/api/performers", PerformerInfo[].class);
+        restTemplate.exchange("/api/performers/1", HttpMethod.PUT,
+                new HttpEntity<>(new PerformerPartnerLevelUpdateCommand(TIER_5)), PerformerInfo.class);
+
+        PerformerInfo[] performers = restTemplate.getForObject("/api/performers", PerformerInfo[].class);
+
+        assertThat(performers[0].getPartnerLevel()).isEqualTo(TIER_5);
+    }
+
+    @Test
+    void testRegionStatistics_Published() {
+        restTemplate.getForObject("/api/musicVenues", MusicVenueInfo[].class);
+        restTemplate.getForObject("/api/musicVenues", MusicVenueInfo[].class);
+
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", "FeelGoodApp.domain.MusicVenue").tag("result", "hit")
+                .functionCounter().count()).isPositive();
+        assertThat(meterRegistry.get("hibernate.cache.query.requests").tag("result", "hit")
+                .functionCounter().count()).isPositive();
+    }
+
+    private long countStatements(String url) {
+        // pending ticket counters would be written by the scheduler in the middle of the measurement
+        ticketReservationEngine.flush();
+        statistics().clear();
+        ResponseEntity<String> resultResponseEntity = restTemplate.getForEntity(url, String.class);
+        assertThat(resultResponseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return statistics().getPrepareStatementCount();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void init() {
+        restTemplate.postForEntity("/api/musicVenues",
+                new MusicVenueCreateCommand("Budapest Park", "06-30-211-3221",
+                        "Budapest, Soroksári út 60, 1095", 4000, BANDSTAND), MusicVenueInfo.class);
+
+        restTemplate.postForEntity("/api/performers",
+                new PerformerCreateCommand("Képzelt Város", "kepzelt.varos@gmail.com",
+                        "06-30-211-5555", POST_ROCK, TIER_1), PerformerInfo.class);
+
+        restTemplate.postForEntity("/api/events",
+                new EventCreateCommand(LocalDateTime.now().plusMonths(1), 200, 1), EventInfo.class);
+        restTemplate.postForEntity("/api/events/1",
+                new AddPerformerToEventCommand(1, true), EventInfo.class);
+    }
+}
@@ -0,0 +1,50 @@
+package FeelGoodApp.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AppendOnlyListTest {
+
+    @Test
+    void testAppend_OlderViewsKeepTheirElements() {
+        AppendOnlyList<String> first = AppendOnlyList.of(List.of("a"), Function.identity());
+
+        AppendOnlyList<String> second = first.append(List.of("b", "c"));
+
+        assertThat(first).containsExactly("a");
+        assertThat(second).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void testAppend_PresentKeySkipped() {
+        AppendOnlyList<String> list = AppendOnlyList.of(List.of("a"), Function.identity());
+
+        assertThat(list.append(List.of("a", "b", "b"))).containsExactly("a", "b");
+    }
+
+    @Test
+    void testAppend_GrowsBeyondInitialCapacity() {
+        AppendOnlyList<Integer> list = AppendOnlyList.of(List.of(), Function.identity());
+        for (int i = 0; i < 100; i++) {
+            list = list.append(List.of(i));
+        }
+
+        assertThat(list).hasSize(100);
+        assertThat(list.get(99)).isEqualTo(99);
+    }
+
+    @Test
+    void testAppend_ToOlderViewCopies() {
+        AppendOnlyList<String> first = AppendOnlyList.of(List.of("a"), Function.identity());
+        AppendOnlyList<String> newer = first.append(List.of("b"));
+
+        AppendOnlyList<String> branch = first.append(List.of("c"));
+
+        assertThat(newer).containsExactly("a", "b");
+        assertThat(branch).containsExactly("a", "c");
+    }
+}
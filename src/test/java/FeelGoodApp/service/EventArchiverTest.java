@@ -0,0 +1,85 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.repository.ArchiveRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class})
+public class EventArchiverTest {
+
+    @Mock
+    ArchiveRepository archiveRepository;
+
+    @Mock
+    CacheInvalidator cacheInvalidator;
+
+    private EventArchiver eventArchiver;
+
+    @Test
+    void testArchive_NothingToArchive() {
+        when(archiveRepository.findArchivableEventIds(any(), eq(2))).thenReturn(List.of());
+
+        assertThat(eventArchiver.archive()).isZero();
+        verify(archiveRepository, never()).archiveEvents(any(), any());
+        assertThat(eventArchiver.getLastRunAt()).isNotNull();
+    }
+
+    @Test
+    void testArchive_BatchesUntilShortBatch() {
+        when(archiveRepository.findArchivableEventIds(any(), eq(2)))
+                .thenReturn(List.of(1, 2))
+                .thenReturn(List.of(3));
+        when(archiveRepository.findPerformerIdsOfEvents(any())).thenReturn(List.of(7));
+        when(archiveRepository.archiveEvents(eq(List.of(1, 2)), any())).thenReturn(2);
+        when(archiveRepository.archiveEvents(eq(List.of(3)), any())).thenReturn(1);
+
+        assertThat(eventArchiver.archive()).isEqualTo(3);
+        assertThat(eventArchiver.getLastRunArchived()).isEqualTo(3);
+        verify(archiveRepository, times(2)).findArchivableEventIds(any(), eq(2));
+        verify(cacheInvalidator).evictEvent(1);
+        verify(cacheInvalidator).evictEvent(2);
+        verify(cacheInvalidator).evictEvent(3);
+        verify(cacheInvalidator, times(2)).evictPerformer(7);
+    }
+
+    @Test
+    void testArchive_ParticipantsMovedInChunks() {
+        when(archiveRepository.findArchivableEventIds(any(), eq(2))).thenReturn(List.of(1));
+        when(archiveRepository.findParticipantIdsOfEvents(List.of(1), 2))
+                .thenReturn(List.of(10, 11))
+                .thenReturn(List.of(12));
+        when(archiveRepository.archiveParticipants(eq(List.of(1)), eq(List.of(10, 11)), any())).thenReturn(2);
+        when(archiveRepository.archiveParticipants(eq(List.of(1)), eq(List.of(12)), any())).thenReturn(1);
+        when(archiveRepository.archiveEvents(eq(List.of(1)), any())).thenReturn(1);
+
+        assertThat(eventArchiver.archive()).isEqualTo(1);
+
+        InOrder inOrder = inOrder(archiveRepository);
+        inOrder.verify(archiveRepository, times(2)).archiveParticipants(eq(List.of(1)), any(), any());
+        inOrder.verify(archiveRepository).archiveEvents(eq(List.of(1)), any());
+    }
+
+    @BeforeEach
+    void init() {
+        eventArchiver = new EventArchiver(archiveRepository, TransactionOperations.withoutTransaction(),
+                cacheInvalidator, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(eventArchiver, "retentionDays", 30);
+        ReflectionTestUtils.setField(eventArchiver, "batchSize", 2);
+        ReflectionTestUtils.setField(eventArchiver, "participantBatchSize", 2);
+        ReflectionTestUtils.setField(eventArchiver, "pause", 0L);
+    }
+}
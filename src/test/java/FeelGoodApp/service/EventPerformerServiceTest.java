@@ -9,6 +9,7 @@ import FeelGoodApp.domain.enums.PartnerLevel;
 import FeelGoodApp.domain.enums.VenueType;
 import FeelGoodApp.dto.EventInfo;
 import FeelGoodApp.dto.EventInfoList;
+import FeelGoodApp.dto.EventInfoPage;
 import FeelGoodApp.dto.PerformerInfo;
 import FeelGoodApp.dto.PerformerInfoList;
 import FeelGoodApp.dto.command.*;
@@ -16,6 +17,7 @@ import FeelGoodApp.exceptionhandling.*;
 import FeelGoodApp.repository.EventRepository;
 import FeelGoodApp.repository.PerformerRepository;
 import FeelGoodApp.repository.PerformersAtEventsRepository;
+import FeelGoodApp.repository.PricingRepository;
 import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,6 +28,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
 import java.time.Month;
@@ -36,7 +39,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith({MockitoExtension.class})
@@ -54,11 +59,31 @@ public class EventPerformerServiceTest {
     @Mock
     MusicVenueService musicVenueService;
 
+    @Mock
+    CacheInvalidator cacheInvalidator;
+
+    @Mock
+    BusinessMetrics businessMetrics;
+
+    @Mock
+    TicketAvailabilityPublisher ticketAvailabilityPublisher;
+
+    @Mock
+    PricingRepository pricingRepository;
+
+    @Mock
+    WaitingRoom waitingRoom;
+
+    @Mock
+    TicketReservationEngine ticketReservationEngine;
+
     private final ModelMapper modelMapper = new ModelMapper();
 
     @InjectMocks
     private EventPerformerService eventPerformerService;
 
+    private PricingEngine pricingEngine;
+
     private Event firstEvent;
     private MusicVenue musicVenue;
     private Performer firstPerformer;
@@ -68,7 +93,10 @@ public class EventPerformerServiceTest {
 
     @Test
     void testSaveEvent_Success() {
-        when(eventRepository.saveEvent(firstEvent)).thenReturn(firstEvent);
+        when(eventRepository.saveEvent(firstEvent)).thenAnswer(invocation -> {
+            firstEvent.setId(1);
+            return firstEvent;
+        });
         when(musicVenueService.findMusicVenueById(1)).thenReturn(musicVenue);
 
         EventInfo result = eventPerformerService.saveEvent(new EventCreateCommand(
@@ -91,23 +119,58 @@ public class EventPerformerServiceTest {
 
     @Test
     void testGetEvents_EmptyList() {
-        when(eventRepository.findAllEvents()).thenReturn(List.of());
-        assertThat(eventPerformerService.getEvents()).isEmpty();
+        when(eventRepository.findEventsPage(isA(EventSearchCommand.class), isNull(), isNull(), eq(21)))
+                .thenReturn(List.of());
+
+        EventInfoPage result = eventPerformerService.getEvents(new EventSearchCommand());
+
+        assertThat(result.getEvents()).isEmpty();
+        assertThat(result.getNextCursor()).isNull();
     }
 
     @Test
     void testGetEvents_HasOneEvent() {
-        when(eventRepository.findAllEvents()).thenReturn(List.of(firstEvent));
-        EventInfo firstEventInfo = modelMapper.map(firstEvent, EventInfo.class);
+        EventInfoList firstEventInfoList = modelMapper.map(firstEvent, EventInfoList.class);
+        when(eventRepository.findEventsPage(isA(EventSearchCommand.class), isNull(), isNull(), eq(21)))
+                .thenReturn(List.of(firstEventInfoList));
 
-        assertThat(eventPerformerService.getEvents())
+        assertThat(eventPerformerService.getEvents(new EventSearchCommand()).getEvents())
                 .hasSize(1)
-                .containsExactly(firstEventInfo);
+                .containsExactly(firstEventInfoList);
+    }
+
+    @Test
+    void testGetEvents_HasNextPage() {
+        EventInfoList firstEventInfoList = modelMapper.map(firstEvent, EventInfoList.class);
+        firstEventInfoList.setId(1);
+        EventInfoList secondEventInfoList = modelMapper.map(firstEvent, EventInfoList.class);
+        secondEventInfoList.setId(2);
+        EventSearchCommand command = new EventSearchCommand();
+        command.setLimit(1);
+        when(eventRepository.findEventsPage(command, null, null, 2))
+                .thenReturn(List.of(firstEventInfoList, secondEventInfoList));
+
+        EventInfoPage result = eventPerformerService.getEvents(command);
+        EventCursor nextCursor = EventCursor.decode(result.getNextCursor());
+
+        assertThat(result.getEvents()).containsExactly(firstEventInfoList);
+        assertThat(nextCursor.getId()).isEqualTo(1);
+        assertThat(nextCursor.getEventDate()).isEqualTo(firstEvent.getEventDate());
+    }
+
+    @Test
+    void testGetEvents_InvalidCursorException() {
+        EventSearchCommand command = new EventSearchCommand();
+        command.setCursor("not a cursor");
+
+        assertThrows(InvalidCursorException.class, () ->
+                eventPerformerService.getEvents(command));
     }
 
     @Test
     void testGetEventById_Success() {
-        when(eventRepository.findEventById(1)).thenReturn(Optional.ofNullable(firstEvent));
+        firstEvent.setId(1);
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.ofNullable(firstEvent));
 
         EventInfo result = eventPerformerService.getEventById(1);
         EventInfo expected = modelMapper.map(firstEvent, EventInfo.class);
@@ -116,7 +179,7 @@ public class EventPerformerServiceTest {
 
     @Test
     void testGetEventById_EventNotFoundException() {
-        when(eventRepository.findEventById(1)).thenReturn(Optional.empty());
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.empty());
 
         assertThrows(EventNotFoundException.class, () ->
                 eventPerformerService.getEventById(1));
@@ -124,8 +187,9 @@ public class EventPerformerServiceTest {
 
     @Test
     void testAddPerformerToEvent_Headliner_Tier_1_Success() {
-        ReflectionTestUtils.setField(eventPerformerService, "tier_1", 3000.0);
-        when(eventRepository.findEventById(1)).thenReturn(Optional.ofNullable(firstEvent));
+        ReflectionTestUtils.setField(pricingEngine, "tier_1", 3000.0);
+        pricingEngine.reload();
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.ofNullable(firstEvent));
         when(performerRepository.findPerformerById(1)).thenReturn(Optional.ofNullable(firstPerformer));
 
         when(performersAtEventsRepository.savePerformerToEvent(firstPerformerAtEvent)).thenReturn(firstPerformerAtEvent);
@@ -144,9 +208,10 @@ public class EventPerformerServiceTest {
 
     @Test
     void testAddPerformerToEvent_Headliner_Tier_2_Success() {
-        ReflectionTestUtils.setField(eventPerformerService, "tier_2", 5500.0);
+        ReflectionTestUtils.setField(pricingEngine, "tier_2", 5500.0);
+        pricingEngine.reload();
         firstPerformer.setPartnerLevel(PartnerLevel.TIER_2);
-        when(eventRepository.findEventById(1)).thenReturn(Optional.ofNullable(firstEvent));
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.ofNullable(firstEvent));
         when(performerRepository.findPerformerById(1)).thenReturn(Optional.ofNullable(firstPerformer));
         when(performersAtEventsRepository.savePerformerToEvent(firstPerformerAtEvent)).thenReturn(firstPerformerAtEvent);
         EventInfo result = eventPerformerService.addPerformerToEvent(1,
@@ -158,9 +223,10 @@ public class EventPerformerServiceTest {
 
     @Test
     void testAddPerformerToEvent_Headliner_Tier_3_Success() {
-        ReflectionTestUtils.setField(eventPerformerService, "tier_3", 7500.0);
+        ReflectionTestUtils.setField(pricingEngine, "tier_3", 7500.0);
+        pricingEngine.reload();
         firstPerformer.setPartnerLevel(PartnerLevel.TIER_3);
-        when(eventRepository.findEventById(1)).thenReturn(Optional.ofNullable(firstEvent));
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.ofNullable(firstEvent));
         when(performerRepository.findPerformerById(1)).thenReturn(Optional.ofNullable(firstPerformer));
         when(performersAtEventsRepository.savePerformerToEvent(firstPerformerAtEvent)).thenReturn(firstPerformerAtEvent);
         EventInfo result = eventPerformerService.addPerformerToEvent(1,
@@ -172,9 +238,10 @@ public class EventPerformerServiceTest {
 
     @Test
     void testAddPerformerToEvent_Headliner_Tier_4_Success() {
-        ReflectionTestUtils.setField(eventPerformerService, "tier_4", 9500.0);
+        ReflectionTestUtils.setField(pricingEngine, "tier_4", 9500.0);
+        pricingEngine.reload();
         firstPerformer.setPartnerLevel(PartnerLevel.TIER_4);
-        when(eventRepository.findEventById(1)).thenReturn(Optional.ofNullable(firstEvent));
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.ofNullable(firstEvent));
         when(performerRepository.findPerformerById(1)).thenReturn(Optional.ofNullable(firstPerformer));
         when(performersAtEventsRepository.savePerformerToEvent(firstPerformerAtEvent)).thenReturn(firstPerformerAtEvent);
         EventInfo result = eventPerformerService.addPerformerToEvent(1,
@@ -186,9 +253,10 @@ public class EventPerformerServiceTest {
 
     @Test
     void testAddPerformerToEvent_Headliner_Tier_5_Success() {
-        ReflectionTestUtils.setField(eventPerformerService, "tier_5", 13000.0);
+        ReflectionTestUtils.setField(pricingEngine, "tier_5", 13000.0);
+        pricingEngine.reload();
         firstPerformer.setPartnerLevel(PartnerLevel.TIER_5);
-        when(eventRepository.findEventById(1)).thenReturn(Optional.ofNullable(firstEvent));
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.ofNullable(firstEvent));
         when(performerRepository.findPerformerById(1)).thenReturn(Optional.ofNullable(firstPerformer));
         when(performersAtEventsRepository.savePerformerToEvent(firstPerformerAtEvent)).thenReturn(firstPerformerAtEvent);
         EventInfo result = eventPerformerService.addPerformerToEvent(1,
@@ -201,7 +269,7 @@ public class EventPerformerServiceTest {
     @Test
     void testAddPerformerToEvent_NotHeadliner_Success() {
         secondPerformerAtEvent.setHeadliner(false);
-        when(eventRepository.findEventById(1)).thenReturn(Optional.ofNullable(firstEvent));
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.ofNullable(firstEvent));
         when(performerRepository.findPerformerById(2)).thenReturn(Optional.ofNullable(secondPerformer));
 
         when(performersAtEventsRepository.savePerformerToEvent(secondPerformerAtEvent)).thenReturn(secondPerformerAtEvent);
@@ -218,7 +286,7 @@ public class EventPerformerServiceTest {
     void testAddPerformerToEvent_EventAlreadyHasHeadlinerException() {
         firstEvent.getPerformersAtEvents().add(firstPerformerAtEvent);
 
-        when(eventRepository.findEventById(1)).thenReturn(Optional.ofNullable(firstEvent));
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.ofNullable(firstEvent));
         when(performerRepository.findPerformerById(2)).thenReturn(Optional.ofNullable(secondPerformer));
 
         assertThrows(EventAlreadyHasHeadlinerException.class, () ->
@@ -231,7 +299,7 @@ public class EventPerformerServiceTest {
         firstEvent.setEventDate(LocalDateTime.now().minusDays(1));
         firstEvent.setId(1);
 
-        when(eventRepository.findEventById(1)).thenReturn(Optional.ofNullable(firstEvent));
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.ofNullable(firstEvent));
         when(performerRepository.findPerformerById(1)).thenReturn(Optional.ofNullable(firstPerformer));
 
         assertThrows(PastEventDateException.class, () ->
@@ -243,7 +311,7 @@ public class EventPerformerServiceTest {
     void testAddPerformerToEvent_HasSamePerformerException() {
         firstEvent.getPerformersAtEvents().add(firstPerformerAtEvent);
 
-        when(eventRepository.findEventById(1)).thenReturn(Optional.ofNullable(firstEvent));
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.ofNullable(firstEvent));
         when(performerRepository.findPerformerById(1)).thenReturn(Optional.ofNullable(firstPerformer));
 
         assertThrows(HasSamePerformerException.class, () ->
@@ -301,7 +369,7 @@ public class EventPerformerServiceTest {
 
     @Test
     void testModifyEventDate_Success() {
-        when(eventRepository.findEventById(1)).thenReturn(Optional.ofNullable(firstEvent));
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.ofNullable(firstEvent));
         when(eventRepository.modifyEventDate(firstEvent)).thenReturn(firstEvent);
         LocalDateTime newEventDate = LocalDateTime.of(2022, Month.AUGUST, 24, 18,
                 0, 0, 0);
@@ -372,7 +440,7 @@ public class EventPerformerServiceTest {
     @Test
     void testGetPerformerById_Success() {
         firstPerformer.getPerformersAtEvents().add(firstPerformerAtEvent);
-        when(performerRepository.findPerformerById(1)).thenReturn(Optional.ofNullable(firstPerformer));
+        when(performerRepository.findPerformerWithEventsById(1)).thenReturn(Optional.ofNullable(firstPerformer));
         PerformerInfo expected = modelMapper.map(firstPerformer, PerformerInfo.class);
         EventInfoList firstEventInfoList = modelMapper.map(firstEvent, EventInfoList.class);
         expected.setEvents(List.of(firstEventInfoList));
@@ -383,7 +451,7 @@ public class EventPerformerServiceTest {
 
     @Test
     void testGetPerformerById_PerformerNotFoundException() {
-        when(performerRepository.findPerformerById(1)).thenReturn(Optional.empty());
+        when(performerRepository.findPerformerWithEventsById(1)).thenReturn(Optional.empty());
 
         assertThrows(PerformerNotFoundException.class, () ->
                 eventPerformerService.getPerformerById(1));
@@ -391,7 +459,7 @@ public class EventPerformerServiceTest {
 
     @Test
     void testModifyPerformerTier_Success() {
-        when(performerRepository.findPerformerById(1)).thenReturn(Optional.ofNullable(firstPerformer));
+        when(performerRepository.findPerformerWithEventsById(1)).thenReturn(Optional.ofNullable(firstPerformer));
         when(performerRepository.updatePerformerTier(firstPerformer)).thenReturn(firstPerformer);
 
         PerformerInfo result = eventPerformerService.modifyPerformerTier(1,
@@ -456,8 +524,14 @@ public class EventPerformerServiceTest {
 
     @BeforeEach
     void init() {
+        pricingEngine = new PricingEngine(pricingRepository, TransactionOperations.withoutTransaction());
+        EventReadModel eventReadModel = new EventReadModel(eventRepository, TransactionOperations.withoutTransaction());
+        ReflectionTestUtils.setField(eventReadModel, "maxEvents", 100L);
+        eventReadModel.init();
         eventPerformerService = new EventPerformerService(musicVenueService, eventRepository, performerRepository,
-                performersAtEventsRepository, modelMapper);
+                performersAtEventsRepository, cacheInvalidator, businessMetrics, eventReadModel,
+                ticketAvailabilityPublisher, pricingEngine, waitingRoom, ticketReservationEngine);
+        ReflectionTestUtils.setField(eventPerformerService, "defaultPageSize", 20);
 
         musicVenue = new MusicVenue();
         musicVenue.setName("Budapest Park");
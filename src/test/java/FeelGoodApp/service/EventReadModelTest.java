@@ -0,0 +1,168 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.domain.Event;
+import FeelGoodApp.domain.MusicVenue;
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.ParticipantInfoList;
+import FeelGoodApp.exceptionhandling.EventNotFoundException;
+import FeelGoodApp.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class})
+public class EventReadModelTest {
+
+    @Mock
+    EventRepository eventRepository;
+
+    private EventReadModel eventReadModel;
+
+    private Event event;
+
+    @Test
+    void testGetEvent_LoadedOnce() {
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.of(event));
+
+        EventInfo first = eventReadModel.getEvent(1);
+        EventInfo second = eventReadModel.getEvent(1);
+
+        assertThat(second).isSameAs(first);
+        verify(eventRepository, times(1)).findEventWithPerformersAndParticipantsById(1);
+    }
+
+    @Test
+    void testGetEvent_DeletedEventNotFound() {
+        event.setDeleted(true);
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.of(event));
+
+        assertThrows(EventNotFoundException.class, () -> eventReadModel.getEvent(1));
+        assertThat(eventReadModel.size()).isZero();
+    }
+
+    @Test
+    void testGetEvent_ChangedWhileLoadingNotInstalled() {
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenAnswer(invocation -> {
+            eventReadModel.eventChanged(1);
+            return Optional.of(event);
+        });
+
+        assertThat(eventReadModel.getEvent(1).getEventName()).isEqualTo("Elefánt - Budapest Park");
+        assertThat(eventReadModel.size()).isZero();
+    }
+
+    @Test
+    void testEventChanged_ReloadedOnNextRead() {
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.of(event));
+        eventReadModel.getEvent(1);
+
+        event.setEventDate(LocalDateTime.of(2030, 1, 1, 20, 0));
+        eventReadModel.eventChanged(1);
+
+        assertThat(eventReadModel.getEvent(1).getEventDate()).isEqualTo(LocalDateTime.of(2030, 1, 1, 20, 0));
+        verify(eventRepository, times(2)).findEventWithPerformersAndParticipantsById(1);
+    }
+
+    @Test
+    void testParticipantsAdded_NotKeptIfEventNotLoaded() {
+        eventReadModel.participantsAdded(1, List.of(new ParticipantInfoList(1, "John Doe", "jd@gmail.com")), 1, true);
+
+        assertThat(eventReadModel.size()).isZero();
+    }
+
+    @Test
+    void testParticipantsAdded_AppendedToNewCopy() {
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.of(event));
+        EventInfo before = eventReadModel.getEvent(1);
+        ParticipantInfoList participant = new ParticipantInfoList(1, "John Doe", "jd@gmail.com");
+
+        eventReadModel.participantsAdded(1, List.of(participant), 1, true);
+        eventReadModel.participantsAdded(1, List.of(participant), 1, true);
+
+        EventInfo after = eventReadModel.getEvent(1);
+        assertThat(after.getParticipants()).containsExactly(participant);
+        assertThat(after.getTicketCounter()).isEqualTo(1);
+        assertThat(before.getParticipants()).isEmpty();
+        verify(eventRepository, times(1)).findEventWithPerformersAndParticipantsById(1);
+    }
+
+    @Test
+    void testTicketsFlushed_SoldOut() {
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.of(event));
+        eventReadModel.getEvent(1);
+
+        eventReadModel.ticketsFlushed(1, 4000, true);
+
+        assertThat(eventReadModel.getEvent(1).getTicketCounter()).isEqualTo(4000);
+        assertThat(eventReadModel.getEvent(1).getAvailableForPublic()).isFalse();
+    }
+
+    @Test
+    void testRebuild_ProjectsActiveEvents() {
+        when(eventRepository.findActiveEventIds()).thenReturn(List.of(1, 2));
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.of(event));
+        when(eventRepository.findEventWithPerformersAndParticipantsById(2)).thenReturn(Optional.empty());
+
+        assertThat(eventReadModel.rebuild()).isEqualTo(1);
+        assertThat(eventReadModel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testRebuild_LoadRunningMeanwhileNotInstalled() {
+        when(eventRepository.findActiveEventIds()).thenReturn(List.of());
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenAnswer(invocation -> {
+            eventReadModel.rebuild();
+            return Optional.of(event);
+        });
+
+        assertThat(eventReadModel.getEvent(1).getEventName()).isEqualTo("Elefánt - Budapest Park");
+        assertThat(eventReadModel.size()).isZero();
+    }
+
+    @Test
+    void testEventChanged_NothingKeptForDroppedEvent() {
+        when(eventRepository.findEventWithPerformersAndParticipantsById(1)).thenReturn(Optional.of(event));
+        eventReadModel.getEvent(1);
+
+        eventReadModel.eventChanged(1);
+
+        assertThat(eventReadModel.size()).isZero();
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(eventReadModel, "loads")).isEmpty();
+    }
+
+    @BeforeEach
+    void init() {
+        eventReadModel = new EventReadModel(eventRepository, TransactionOperations.withoutTransaction());
+        ReflectionTestUtils.setField(eventReadModel, "maxEvents", 100L);
+        eventReadModel.init();
+
+        MusicVenue musicVenue = new MusicVenue();
+        musicVenue.setName("Budapest Park");
+        musicVenue.setCapacity(4000);
+
+        event = new Event();
+        event.setId(1);
+        event.setEventName("Elefánt - Budapest Park");
+        event.setEventDate(LocalDateTime.of(2029, 8, 18, 18, 0));
+        event.setAvailableForPublic(true);
+        event.setTicketCounter(0);
+        event.setDeleted(false);
+        event.setMusicVenue(musicVenue);
+        event.setPerformersAtEvents(new ArrayList<>());
+        event.setParticipants(new ArrayList<>());
+    }
+}
@@ -0,0 +1,27 @@
+package FeelGoodApp.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExportServiceTest {
+
+    @Test
+    void testToCsvLine_PlainValues() {
+        assertThat(ExportService.toCsvLine(List.of(1, "John Doe", true))).isEqualTo("1,John Doe,true\n");
+    }
+
+    @Test
+    void testToCsvLine_NullIsEmpty() {
+        assertThat(ExportService.toCsvLine(Arrays.asList(1, null, "jd@gmail.com"))).isEqualTo("1,,jd@gmail.com\n");
+    }
+
+    @Test
+    void testToCsvLine_QuotesSeparatorsAndQuotes() {
+        assertThat(ExportService.toCsvLine(List.of("Budapest, Park", "The \"Big\" Show", "two\nlines")))
+                .isEqualTo("\"Budapest, Park\",\"The \"\"Big\"\" Show\",\"two\nlines\"\n");
+    }
+}
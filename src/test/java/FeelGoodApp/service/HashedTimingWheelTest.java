@@ -0,0 +1,41 @@
+package FeelGoodApp.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HashedTimingWheelTest {
+
+    private final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(8, 100, 0);
+    private final List<String> expired = new ArrayList<>();
+
+    @Test
+    void testAdvance_ExpiresAtTheFirstTickAfterDeadline() {
+        wheel.schedule("first", 150);
+        wheel.schedule("second", 200);
+
+        assertThat(wheel.advance(199, expired::add)).isZero();
+        assertThat(wheel.advance(200, expired::add)).isEqualTo(2);
+        assertThat(expired).containsExactly("first", "second");
+    }
+
+    @Test
+    void testAdvance_DeadlineBeyondOneTurn() {
+        wheel.schedule("later", 1050);
+
+        assertThat(wheel.advance(1000, expired::add)).isZero();
+        assertThat(wheel.advance(1100, expired::add)).isEqualTo(1);
+    }
+
+    @Test
+    void testSchedule_PastDeadlineExpiresOnNextAdvance() {
+        wheel.advance(500, expired::add);
+        wheel.schedule("late", 100);
+
+        assertThat(wheel.advance(600, expired::add)).isEqualTo(1);
+        assertThat(expired).containsExactly("late");
+    }
+}
@@ -0,0 +1,93 @@
+package FeelGoodApp.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class IdempotencyStoreTest {
+
+    private IdempotencyStore idempotencyStore;
+
+    @Test
+    void testStart_DuplicateWaitsForTheRunningRequest() throws Exception {
+        assertThat(idempotencyStore.start("POST /api/participants/1 key-1")).isEmpty();
+
+        CompletableFuture<Optional<IdempotentResponse>> duplicate = CompletableFuture.supplyAsync(() -> start("POST /api/participants/1 key-1"));
+        Thread.sleep(20);
+        assertThat(duplicate).isNotDone();
+        IdempotentResponse response = new IdempotentResponse("fingerprint", 201, null, new byte[0]);
+        idempotencyStore.finish("POST /api/participants/1 key-1", response);
+
+        assertThat(duplicate.get()).containsSame(response);
+    }
+
+    @Test
+    void testStart_DuplicateTimesOut() throws Exception {
+        assertThat(idempotencyStore.start("POST /api/participants/1 key-1")).isEmpty();
+
+        assertThatThrownBy(() -> idempotencyStore.start("POST /api/participants/1 key-1"))
+                .isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void testStart_OtherKeysDoNotWait() throws Exception {
+        assertThat(idempotencyStore.start("POST /api/participants/1 key-1")).isEmpty();
+
+        assertThat(idempotencyStore.start("POST /api/participants/1 key-2")).isEmpty();
+    }
+
+    @Test
+    void testStart_DuplicateRunsAfterFailedRequest() throws Exception {
+        assertThat(idempotencyStore.start("POST /api/participants/1 key-1")).isEmpty();
+        idempotencyStore.finish("POST /api/participants/1 key-1", null);
+
+        assertThat(idempotencyStore.start("POST /api/participants/1 key-1")).isEmpty();
+    }
+
+    @Test
+    void testStart_ReplaysStoredResponse() throws Exception {
+        idempotencyStore.start("first");
+        idempotencyStore.finish("first", new IdempotentResponse("fingerprint", 201, null, new byte[0]));
+
+        assertThat(idempotencyStore.start("first")).isPresent();
+        assertThat(idempotencyStore.start("unknown")).isEmpty();
+    }
+
+    @Test
+    void testFinish_OversizedResponseOnlyGivenToWaitingDuplicates() throws Exception {
+        assertThat(idempotencyStore.start("POST /api/participants/1/batch key-1")).isEmpty();
+        CompletableFuture<Optional<IdempotentResponse>> duplicate = CompletableFuture.supplyAsync(() -> start("POST /api/participants/1/batch key-1"));
+        Thread.sleep(20);
+        IdempotentResponse response = new IdempotentResponse("fingerprint", 200, null, new byte[1001]);
+        idempotencyStore.finish("POST /api/participants/1/batch key-1", response);
+
+        assertThat(duplicate.get()).containsSame(response);
+        assertThat(idempotencyStore.start("POST /api/participants/1/batch key-1")).isEmpty();
+    }
+
+    @BeforeEach
+    void init() {
+        idempotencyStore = new IdempotencyStore(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(idempotencyStore, "ttl", 60000L);
+        ReflectionTestUtils.setField(idempotencyStore, "maxWeight", 10_000L);
+        ReflectionTestUtils.setField(idempotencyStore, "maxResponseSize", 1000);
+        ReflectionTestUtils.setField(idempotencyStore, "waitTimeout", 500L);
+        idempotencyStore.init();
+    }
+
+    private Optional<IdempotentResponse> start(String key) {
+        try {
+            return idempotencyStore.start(key);
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -32,6 +32,9 @@ public class MusicVenueServiceTest {
     @Mock
     MusicVenueRepository musicVenueRepository;
 
+    @Mock
+    CacheInvalidator cacheInvalidator;
+
     private final ModelMapper modelMapper = new ModelMapper();
 
     @InjectMocks
@@ -134,7 +137,7 @@ public class MusicVenueServiceTest {
     @Test
     void testDeleteMusicVenue() {
         when(musicVenueRepository.findMusicVenueById(1)).thenReturn(Optional.ofNullable(firstMusicVenue));
-        doNothing().when(musicVenueRepository).deleteMusicVenue(isA(MusicVenue.class));
+        when(musicVenueRepository.deleteMusicVenue(isA(MusicVenue.class))).thenReturn(List.of());
         musicVenueService.deleteMusicVenue(1);
 
         verify(musicVenueRepository, times(1)).deleteMusicVenue(firstMusicVenue);
@@ -151,7 +154,7 @@ public class MusicVenueServiceTest {
 
     @BeforeEach
     void init() {
-        musicVenueService = new MusicVenueService(musicVenueRepository, modelMapper);
+        musicVenueService = new MusicVenueService(musicVenueRepository, cacheInvalidator);
 
         firstMusicVenue = new MusicVenue();
         firstMusicVenue.setName("Budapest Park");
@@ -0,0 +1,73 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.exceptionhandling.ConcurrentUpdateException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class})
+public class OptimisticLockRetryAspectTest {
+
+    @Mock
+    ProceedingJoinPoint joinPoint;
+
+    @Mock
+    Signature signature;
+
+    private MeterRegistry meterRegistry;
+
+    private OptimisticLockRetryAspect optimisticLockRetryAspect;
+
+    @Test
+    void testRetry_NoConflict() throws Throwable {
+        when(joinPoint.proceed()).thenReturn("result");
+
+        assertThat(optimisticLockRetryAspect.retry(joinPoint)).isEqualTo("result");
+        verify(joinPoint, times(1)).proceed();
+        assertThat(meterRegistry.find("optimistic.lock.conflicts").counter()).isNull();
+    }
+
+    @Test
+    void testRetry_SucceedsAfterConflicts() throws Throwable {
+        when(joinPoint.proceed())
+                .thenThrow(new ObjectOptimisticLockingFailureException("Event", 1))
+                .thenThrow(new ObjectOptimisticLockingFailureException("Event", 1))
+                .thenReturn("result");
+
+        assertThat(optimisticLockRetryAspect.retry(joinPoint)).isEqualTo("result");
+        verify(joinPoint, times(3)).proceed();
+        assertThat(meterRegistry.get("optimistic.lock.conflicts").tag("operation", "modifyEventDate")
+                .counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("optimistic.lock.retries").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testRetry_ConcurrentUpdateException() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new ObjectOptimisticLockingFailureException("Event", 1));
+
+        assertThrows(ConcurrentUpdateException.class, () -> optimisticLockRetryAspect.retry(joinPoint));
+        verify(joinPoint, times(3)).proceed();
+        assertThat(meterRegistry.get("optimistic.lock.conflicts").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("optimistic.lock.retries").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("optimistic.lock.exhausted").counter().count()).isEqualTo(1);
+    }
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        optimisticLockRetryAspect = new OptimisticLockRetryAspect(meterRegistry, 3, 1);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn("modifyEventDate");
+    }
+}
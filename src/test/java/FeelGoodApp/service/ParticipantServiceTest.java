@@ -4,15 +4,26 @@ import FeelGoodApp.domain.Event;
 import FeelGoodApp.domain.MusicVenue;
 import FeelGoodApp.domain.Participant;
 import FeelGoodApp.domain.Performer;
+import FeelGoodApp.domain.PricingRule;
 import FeelGoodApp.domain.enums.GenreType;
+import FeelGoodApp.domain.enums.RegistrationStatus;
 import FeelGoodApp.domain.enums.PartnerLevel;
 import FeelGoodApp.domain.enums.VenueType;
+import FeelGoodApp.dto.HoldInfo;
+import FeelGoodApp.dto.ParticipantBatchRowInfo;
 import FeelGoodApp.dto.ParticipantInfo;
 import FeelGoodApp.dto.ParticipantInfoList;
+import FeelGoodApp.dto.ParticipantInfoPage;
 import FeelGoodApp.dto.command.ParticipantCreateCommand;
+import FeelGoodApp.dto.command.ParticipantPageCommand;
+import FeelGoodApp.exceptionhandling.InvalidCursorException;
 import FeelGoodApp.exceptionhandling.EventIsNotAvailableForPublicException;
+import FeelGoodApp.exceptionhandling.ParticipantBatchTooLargeException;
 import FeelGoodApp.exceptionhandling.PastEventDateException;
+import FeelGoodApp.repository.EventRepository;
 import FeelGoodApp.repository.ParticipantRepository;
+import FeelGoodApp.repository.PricingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,14 +31,21 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.validation.Validation;
 
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.*;
 
@@ -40,6 +58,24 @@ public class ParticipantServiceTest {
     @Mock
     EventPerformerService eventPerformerService;
 
+    @Mock
+    EventRepository eventRepository;
+
+    @Mock
+    EventReadModel eventReadModel;
+
+    @Mock
+    TicketAvailabilityPublisher ticketAvailabilityPublisher;
+
+    @Mock
+    PricingRepository pricingRepository;
+
+    @Mock
+    SeatHoldStore seatHoldStore;
+
+    @Mock
+    CacheInvalidator cacheInvalidator;
+
     private final ModelMapper modelMapper = new ModelMapper();
 
     @InjectMocks
@@ -89,6 +125,48 @@ public class ParticipantServiceTest {
                         "dj@gmail.com")));
     }
 
+    @Test
+    void testSaveParticipant_SoldOut_EventIsNotAvailableForPublicException() {
+        firstEvent.setTicketCounter(4000);
+
+        when(eventPerformerService.findEventById(1)).thenReturn(firstEvent);
+        doNothing().when(eventPerformerService).checkEventDateIsPast(isA(Event.class));
+
+        assertThrows(EventIsNotAvailableForPublicException.class, () ->
+                participantService.saveParticipant(1, new ParticipantCreateCommand("Dohn Joe",
+                        "dj@gmail.com")));
+    }
+
+    @Test
+    void testSaveParticipant_RestartFromStaleCounter() {
+        // the last flush before the crash wrote 3990, 3998 Participants were registered
+        firstEvent.setTicketCounter(3990);
+        firstParticipant.setEvent(firstEvent);
+        when(eventPerformerService.findEventById(1)).thenReturn(firstEvent);
+        doNothing().when(eventPerformerService).checkEventDateIsPast(isA(Event.class));
+        when(eventRepository.countParticipants(1)).thenReturn(3998);
+        when(participantRepository.saveParticipant(firstParticipant)).thenReturn(firstParticipant);
+
+        ParticipantInfo result = participantService.saveParticipant(1,
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"));
+
+        assertThat(result.getEvent().getTicketCounter()).isEqualTo(3999);
+        assertTrue(result.getEvent().isAvailableForPublic());
+    }
+
+    @Test
+    void testSaveParticipant_RestartFromStaleCounter_SoldOut() {
+        firstEvent.setTicketCounter(3990);
+        when(eventPerformerService.findEventById(1)).thenReturn(firstEvent);
+        doNothing().when(eventPerformerService).checkEventDateIsPast(isA(Event.class));
+        when(eventRepository.countParticipants(1)).thenReturn(4000);
+
+        assertThrows(EventIsNotAvailableForPublicException.class, () ->
+                participantService.saveParticipant(1, new ParticipantCreateCommand("Dohn Joe",
+                        "dj@gmail.com")));
+        verify(participantRepository, never()).saveParticipant(any());
+    }
+
     @Test
     void testSaveParticipant_PastEventDateException() {
         firstEvent.setId(1);
@@ -103,6 +181,70 @@ public class ParticipantServiceTest {
                         "dj@gmail.com")));
     }
 
+    @Test
+    void testSaveParticipants_InvalidRowsReported() {
+        firstEvent.setTicketCounter(0);
+        when(eventPerformerService.findEventById(1)).thenReturn(firstEvent);
+        when(participantRepository.saveParticipants(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<ParticipantBatchRowInfo> result = participantService.saveParticipants(1, List.of(
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"),
+                new ParticipantCreateCommand("", "not an email"),
+                new ParticipantCreateCommand("Dohn Joe", "dj@gmail.com")));
+
+        assertThat(result).extracting(ParticipantBatchRowInfo::getStatus)
+                .containsExactly(RegistrationStatus.CREATED, RegistrationStatus.INVALID, RegistrationStatus.CREATED);
+        assertThat(result.get(1).getErrors()).extracting(error -> error.getField())
+                .containsExactlyInAnyOrder("name", "email");
+        assertThat(firstEvent.getTicketCounter()).isEqualTo(2);
+        verify(participantRepository).saveParticipants(argThat(participants -> participants.size() == 2));
+    }
+
+    @Test
+    void testSaveParticipants_RowsOverCapacitySoldOut() {
+        firstEvent.setTicketCounter(3998);
+        when(eventPerformerService.findEventById(1)).thenReturn(firstEvent);
+        when(participantRepository.saveParticipants(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<ParticipantCreateCommand> commands = List.of("a", "b", "c", "d").stream()
+                .map(name -> new ParticipantCreateCommand(name, name + "@gmail.com"))
+                .collect(Collectors.toList());
+        List<ParticipantBatchRowInfo> result = participantService.saveParticipants(1, commands);
+
+        assertThat(result).extracting(ParticipantBatchRowInfo::getStatus)
+                .containsExactly(RegistrationStatus.CREATED, RegistrationStatus.CREATED,
+                        RegistrationStatus.SOLD_OUT, RegistrationStatus.SOLD_OUT);
+        assertThat(firstEvent.getTicketCounter()).isEqualTo(4000);
+        assertFalse(firstEvent.isAvailableForPublic());
+    }
+
+    @Test
+    void testSaveParticipants_EveryRowPricedAtItsPosition() {
+        when(pricingRepository.findAllPricingRules()).thenReturn(List.of(new PricingRule(1, null, 0.5, null, 1.5)));
+        ((PricingEngine) ReflectionTestUtils.getField(participantService, "pricingEngine")).reload();
+        firstEvent.setTicketCounter(1999);
+        when(eventPerformerService.findEventById(1)).thenReturn(firstEvent);
+        when(participantRepository.saveParticipants(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        participantService.saveParticipants(1, List.of(
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"),
+                new ParticipantCreateCommand("Dohn Joe", "dj@gmail.com")));
+
+        verify(participantRepository).saveParticipants(argThat(participants ->
+                participants.get(0).getTicketPrice() == 3000.0 && participants.get(1).getTicketPrice() == 4500.0));
+    }
+
+    @Test
+    void testSaveParticipants_ParticipantBatchTooLargeException() {
+        ReflectionTestUtils.setField(participantService, "maxBatchSize", 1);
+
+        assertThrows(ParticipantBatchTooLargeException.class, () ->
+                participantService.saveParticipants(1, List.of(
+                        new ParticipantCreateCommand("John Doe", "jd@gmail.com"),
+                        new ParticipantCreateCommand("Dohn Joe", "dj@gmail.com"))));
+        verifyNoInteractions(participantRepository);
+    }
+
     @Test
     void testGetParticipantsByEvent_EmptyList() {
         when(participantRepository.getParticipantsByEvent(1)).thenReturn(List.of());
@@ -134,17 +276,90 @@ public class ParticipantServiceTest {
                 .containsExactly(firstParticipantInfoList, secondParticipantInfoList);
     }
 
+    @Test
+    void testGetParticipantsPage_NextCursorOfLastOnPage() {
+        when(participantRepository.findParticipantsPage(1, null, 2)).thenReturn(List.of(
+                new ParticipantInfoList(3, "John Doe", "jd@gmail.com"),
+                new ParticipantInfoList(7, "Dohn Joe", "dj@gmail.com")));
+
+        ParticipantInfoPage result = participantService.getParticipantsPage(1, new ParticipantPageCommand(null, 1));
+
+        assertThat(result.getParticipants()).extracting("id").containsExactly(3);
+        assertThat(ParticipantCursor.decode(result.getNextCursor()).getId()).isEqualTo(3);
+    }
+
+    @Test
+    void testGetParticipantsPage_LastPage() {
+        when(participantRepository.findParticipantsPage(1, 3, 101)).thenReturn(List.of(
+                new ParticipantInfoList(7, "Dohn Joe", "dj@gmail.com")));
+
+        ParticipantInfoPage result = participantService.getParticipantsPage(1,
+                new ParticipantPageCommand(new ParticipantCursor(3).encode(), null));
+
+        assertThat(result.getParticipants()).hasSize(1);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void testGetParticipantsPage_InvalidCursor() {
+        assertThrows(InvalidCursorException.class, () ->
+                participantService.getParticipantsPage(1, new ParticipantPageCommand("notACursor", null)));
+        verifyNoInteractions(participantRepository);
+    }
+
+    @Test
+    void testHoldTicket_ReservesWithoutParticipant() {
+        HoldInfo hold = new HoldInfo("hold", 1, 3000.0, LocalDateTime.now().plusMinutes(10));
+        when(eventPerformerService.findEventById(1)).thenReturn(firstEvent);
+        doNothing().when(eventPerformerService).checkEventDateIsPast(isA(Event.class));
+        when(seatHoldStore.hold(eq(1), anyDouble())).thenReturn(hold);
+
+        HoldInfo result = participantService.holdTicket(1);
+
+        assertEquals(hold, result);
+        assertThat(firstEvent.getTicketCounter()).isEqualTo(4000);
+        assertFalse(firstEvent.isAvailableForPublic());
+        verifyNoInteractions(participantRepository);
+    }
+
+    @Test
+    void testConfirmHold_SavesAtHeldPrice() {
+        when(seatHoldStore.confirm(1, "hold")).thenReturn(new HoldInfo("hold", 1, 2750.0, null));
+        when(eventPerformerService.findEventById(1)).thenReturn(firstEvent);
+        when(participantRepository.saveParticipant(isA(Participant.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ParticipantInfo result = participantService.confirmHold(1, "hold",
+                new ParticipantCreateCommand("John Doe", "jd@gmail.com"));
+
+        assertThat(result.getTicketPrice()).isEqualTo(2750.0);
+        assertThat(firstEvent.getTicketCounter()).isEqualTo(3999);
+    }
+
+    private PricingEngine pricingEngine() {
+        PricingEngine pricingEngine = new PricingEngine(pricingRepository, TransactionOperations.withoutTransaction());
+        pricingEngine.reload();
+        return pricingEngine;
+    }
+
     @BeforeEach
     void init() {
-        participantService = new ParticipantService(eventPerformerService, participantRepository, modelMapper);
+        participantService = new ParticipantService(eventPerformerService, participantRepository,
+                new TicketReservationEngine(eventRepository, TransactionOperations.withoutTransaction(), eventReadModel,
+                        new BusinessMetrics(new SimpleMeterRegistry()), cacheInvalidator),
+                Validation.buildDefaultValidatorFactory().getValidator(), eventReadModel,
+                ticketAvailabilityPublisher, pricingEngine(), seatHoldStore);
+        ReflectionTestUtils.setField(participantService, "maxBatchSize", 5000);
+        ReflectionTestUtils.setField(participantService, "defaultPageSize", 100);
 
         firstParticipant = new Participant();
         firstParticipant.setName("John Doe");
         firstParticipant.setEmail("jd@gmail.com");
+        firstParticipant.setTicketPrice(3000.0);
 
         secondParticipant = new Participant();
         secondParticipant.setName("Dohn Joe");
         secondParticipant.setEmail("dj@gmail.com");
+        secondParticipant.setTicketPrice(3000.0);
 
         Performer firstPerformer = new Performer();
         firstPerformer.setName("Képzelt Város");
@@ -166,6 +381,7 @@ public class ParticipantServiceTest {
         musicVenue.setDeletedAt(null);
 
         firstEvent = new Event();
+        firstEvent.setId(1);
         firstEvent.setEventName("Képzelt Város - Budapest Park");
         firstEvent.setEventDate(LocalDateTime.of(2022, Month.AUGUST, 18,
                 18, 0, 0, 0));
@@ -0,0 +1,109 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.domain.Event;
+import FeelGoodApp.domain.MusicVenue;
+import FeelGoodApp.domain.PricingRule;
+import FeelGoodApp.domain.TierPrice;
+import FeelGoodApp.repository.PricingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_1;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_2;
+import static FeelGoodApp.domain.enums.VenueType.ARENA;
+import static FeelGoodApp.domain.enums.VenueType.CLUB;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({MockitoExtension.class})
+public class PricingEngineTest {
+
+    @Mock
+    PricingRepository pricingRepository;
+
+    private PricingEngine pricingEngine;
+
+    private Event event;
+
+    @Test
+    void testTierPrice_TableOverridesConfiguration() {
+        when(pricingRepository.findAllTierPrices()).thenReturn(List.of(new TierPrice(TIER_2, 5200.0)));
+
+        pricingEngine.reload();
+
+        assertThat(pricingEngine.tierPrice(TIER_1)).isEqualTo(2500.0);
+        assertThat(pricingEngine.tierPrice(TIER_2)).isEqualTo(5200.0);
+    }
+
+    @Test
+    void testQuote_NoRules() {
+        pricingEngine.reload();
+
+        assertThat(pricingEngine.quote(event, 990)).isEqualTo(4000.0);
+    }
+
+    @Test
+    void testQuote_FillRatioRules() {
+        when(pricingRepository.findAllPricingRules()).thenReturn(List.of(
+                new PricingRule(1, null, 0.5, null, 1.25),
+                new PricingRule(2, null, 0.9, null, 1.2)));
+        pricingEngine.reload();
+
+        assertThat(pricingEngine.quote(event, 499)).isEqualTo(4000.0);
+        assertThat(pricingEngine.quote(event, 500)).isEqualTo(5000.0);
+        assertThat(pricingEngine.quote(event, 900)).isEqualTo(6000.0);
+    }
+
+    @Test
+    void testQuote_VenueTypeAndTimeToEventRules() {
+        when(pricingRepository.findAllPricingRules()).thenReturn(List.of(
+                new PricingRule(1, ARENA, 0.0, null, 2.0),
+                new PricingRule(2, CLUB, 0.0, 2, 1.5),
+                new PricingRule(3, null, 0.0, 30, 1.1)));
+        pricingEngine.reload();
+
+        event.setEventDate(LocalDateTime.now().plusDays(60));
+        assertThat(pricingEngine.quote(event, 0)).isEqualTo(4000.0);
+        event.setEventDate(LocalDateTime.now().plusDays(10).plusHours(1));
+        assertThat(pricingEngine.quote(event, 0)).isEqualTo(4400.0);
+        event.setEventDate(LocalDateTime.now().plusDays(1).plusHours(1));
+        assertThat(pricingEngine.quote(event, 0)).isEqualTo(6600.0);
+
+        event.getMusicVenue().setType(ARENA);
+        assertThat(pricingEngine.quote(event, 0)).isEqualTo(8800.0);
+    }
+
+    @Test
+    void testReload_NewVersion() {
+        long version = pricingEngine.reload().getVersion();
+
+        assertThat(pricingEngine.reload().getVersion()).isEqualTo(version + 1);
+        assertThat(pricingEngine.current().getVersion()).isEqualTo(version + 1);
+    }
+
+    @BeforeEach
+    void init() {
+        pricingEngine = new PricingEngine(pricingRepository, TransactionOperations.withoutTransaction());
+        ReflectionTestUtils.setField(pricingEngine, "tier_1", 2500.0);
+        ReflectionTestUtils.setField(pricingEngine, "tier_2", 5000.0);
+
+        MusicVenue musicVenue = new MusicVenue();
+        musicVenue.setName("A38");
+        musicVenue.setCapacity(1000);
+        musicVenue.setType(CLUB);
+
+        event = new Event();
+        event.setId(1);
+        event.setEventPrice(4000.0);
+        event.setEventDate(LocalDateTime.now().plusMonths(3));
+        event.setMusicVenue(musicVenue);
+    }
+}
@@ -0,0 +1,61 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.dto.MusicVenueInfo;
+import FeelGoodApp.dto.ParticipantInfoList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RepresentationETagsTest {
+
+    private RepresentationETags representationETags;
+
+    @Test
+    void testEventETag_SameForSameState() {
+        assertThat(representationETags.eventETag(event("3/0/1:2", 10, true)))
+                .isEqualTo(new RepresentationETags().eventETag(event("3/0/1:2", 10, true)));
+    }
+
+    @Test
+    void testEventETag_ChangesWithVersionCounterAndAvailability() {
+        String eTag = representationETags.eventETag(event("3/0/1:2", 10, true));
+
+        assertThat(representationETags.eventETag(event("4/0/1:2", 10, true))).isNotEqualTo(eTag);
+        assertThat(representationETags.eventETag(event("3/0/1:2", 11, true))).isNotEqualTo(eTag);
+        assertThat(representationETags.eventETag(event("3/0/1:2", 10, false))).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void testMusicVenuesETag_ChangesWithVersionOfAnyVenue() {
+        String eTag = representationETags.musicVenuesETag(List.of(musicVenue(1, 0), musicVenue(2, 0)));
+
+        assertThat(representationETags.musicVenuesETag(List.of(musicVenue(1, 0), musicVenue(2, 1)))).isNotEqualTo(eTag);
+        assertThat(representationETags.musicVenuesETag(List.of(musicVenue(1, 0)))).isNotEqualTo(eTag);
+    }
+
+    private EventInfo event(String version, int ticketCounter, boolean availableForPublic) {
+        EventInfo event = new EventInfo();
+        event.setId(1);
+        event.setVersion(version);
+        event.setTicketCounter(ticketCounter);
+        event.setAvailableForPublic(availableForPublic);
+        event.setParticipants(List.of(new ParticipantInfoList(1, "John Doe", "jd@gmail.com")));
+        return event;
+    }
+
+    private MusicVenueInfo musicVenue(int id, int version) {
+        MusicVenueInfo musicVenue = new MusicVenueInfo();
+        musicVenue.setId(id);
+        musicVenue.setVersion(version);
+        return musicVenue;
+    }
+
+    @BeforeEach
+    void init() {
+        representationETags = new RepresentationETags();
+    }
+}
@@ -0,0 +1,136 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.domain.HeldTicket;
+import FeelGoodApp.dto.HoldInfo;
+import FeelGoodApp.exceptionhandling.HoldNotFoundException;
+import FeelGoodApp.repository.HeldTicketRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class})
+public class SeatHoldStoreTest {
+
+    @Mock
+    TicketReservationEngine ticketReservationEngine;
+
+    @Mock
+    TicketAvailabilityPublisher ticketAvailabilityPublisher;
+
+    @Mock
+    HeldTicketRepository heldTicketRepository;
+
+    private MeterRegistry meterRegistry;
+
+    private SeatHoldStore seatHoldStore;
+
+    @Test
+    void testExpire_OneReleasePerEvent() {
+        seatHoldStore.hold(1, 3000.0);
+        seatHoldStore.hold(1, 3000.0);
+        seatHoldStore.hold(2, 2500.0);
+
+        assertThat(seatHoldStore.expire()).isEqualTo(3);
+
+        verify(ticketReservationEngine).release(1, 2);
+        verify(ticketReservationEngine).release(2, 1);
+        assertThat(seatHoldStore.size()).isZero();
+        assertThat(meterRegistry.get("seat.holds.expired").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void testExpire_ConfirmedHoldSkipped() throws InterruptedException {
+        ReflectionTestUtils.setField(seatHoldStore, "ttl", 50L);
+        HoldInfo hold = seatHoldStore.hold(1, 3000.0);
+
+        assertThat(seatHoldStore.confirm(1, hold.getHoldId()).getTicketPrice()).isEqualTo(3000.0);
+        Thread.sleep(100);
+        assertThat(seatHoldStore.expire()).isZero();
+
+        verify(ticketReservationEngine, never()).release(anyInt(), anyInt());
+        assertThrows(HoldNotFoundException.class, () -> seatHoldStore.confirm(1, hold.getHoldId()));
+    }
+
+    @Test
+    void testConfirm_PastDeadline() {
+        HoldInfo hold = seatHoldStore.hold(1, 3000.0);
+
+        assertThrows(HoldNotFoundException.class, () -> seatHoldStore.confirm(1, hold.getHoldId()));
+        assertThat(seatHoldStore.expire()).isEqualTo(1);
+    }
+
+    @Test
+    void testRelease_BeforeDeadline() {
+        ReflectionTestUtils.setField(seatHoldStore, "ttl", 600000L);
+        HoldInfo hold = seatHoldStore.hold(1, 3000.0);
+
+        assertThrows(HoldNotFoundException.class, () -> seatHoldStore.release(2, hold.getHoldId()));
+        seatHoldStore.release(1, hold.getHoldId());
+
+        verify(ticketReservationEngine).release(1, 1);
+        verify(ticketAvailabilityPublisher).availabilityChanged(1);
+        assertThat(seatHoldStore.expire()).isZero();
+    }
+
+    @Test
+    void testRestore_PersistedHoldExpiresOnItsDeadline() {
+        when(heldTicketRepository.findAllHeldTickets())
+                .thenReturn(List.of(new HeldTicket("hold-1", 1, 3000.0, System.currentTimeMillis() - 1)));
+
+        seatHoldStore.restore();
+
+        assertThat(seatHoldStore.size()).isEqualTo(1);
+        assertThat(seatHoldStore.expire()).isEqualTo(1);
+        verify(ticketReservationEngine).release(1, 1);
+    }
+
+    @Test
+    void testExpire_HoldGivenBackElsewhereNotReleasedAgain() {
+        HoldInfo hold = seatHoldStore.hold(1, 3000.0);
+        when(heldTicketRepository.deleteHeldTicket(hold.getHoldId())).thenReturn(false);
+
+        assertThat(seatHoldStore.expire()).isZero();
+
+        verify(ticketReservationEngine, never()).release(anyInt(), anyInt());
+        assertThat(seatHoldStore.size()).isZero();
+    }
+
+    @Test
+    void testReleaseOnShutdown() {
+        ReflectionTestUtils.setField(seatHoldStore, "ttl", 600000L);
+        seatHoldStore.hold(1, 3000.0);
+        seatHoldStore.hold(1, 3000.0);
+
+        seatHoldStore.releaseOnShutdown();
+
+        verify(ticketReservationEngine).release(1, 2);
+        assertThat(seatHoldStore.size()).isZero();
+    }
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        seatHoldStore = new SeatHoldStore(ticketReservationEngine, ticketAvailabilityPublisher, heldTicketRepository,
+                TransactionOperations.withoutTransaction(), meterRegistry);
+        lenient().when(heldTicketRepository.deleteHeldTicket(anyString())).thenReturn(true);
+        // the holds expire right away, the wheel moves every millisecond
+        ReflectionTestUtils.setField(seatHoldStore, "ttl", -1L);
+        ReflectionTestUtils.setField(seatHoldStore, "tick", 1L);
+        ReflectionTestUtils.setField(seatHoldStore, "wheelSize", 16);
+        seatHoldStore.init();
+    }
+}
@@ -0,0 +1,245 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.domain.Event;
+import FeelGoodApp.domain.MusicVenue;
+import FeelGoodApp.domain.enums.TicketCounterStore;
+import FeelGoodApp.exceptionhandling.EventIsNotAvailableForPublicException;
+import FeelGoodApp.repository.EventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith({MockitoExtension.class})
+public class TicketReservationEngineTest {
+
+    @Mock
+    EventRepository eventRepository;
+
+    @Mock
+    EventReadModel eventReadModel;
+
+    @Mock
+    CacheInvalidator cacheInvalidator;
+
+    private MeterRegistry meterRegistry;
+
+    private TicketReservationEngine ticketReservationEngine;
+
+    private Event event;
+
+    @Test
+    void testReserve_Success() {
+        assertThat(ticketReservationEngine.reserve(event)).isEqualTo(1);
+        assertThat(ticketReservationEngine.reserve(event)).isEqualTo(2);
+    }
+
+    @Test
+    void testReserve_SoldOut() {
+        event.setTicketCounter(3999);
+
+        assertThat(ticketReservationEngine.reserve(event)).isEqualTo(4000);
+        assertThrows(EventIsNotAvailableForPublicException.class, () -> ticketReservationEngine.reserve(event));
+    }
+
+    @Test
+    void testReserve_SoldOutCountedOnce() {
+        event.setTicketCounter(3990);
+
+        assertThat(ticketReservationEngine.reserve(event, 20)).isEqualTo(10);
+        assertThat(ticketReservationEngine.reserve(event, 1)).isZero();
+
+        assertThat(meterRegistry.get("tickets.sold").counter().count()).isEqualTo(10);
+        assertThat(meterRegistry.get("events.sold.out").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testReserve_SeededFromParticipantsAfterCrash() {
+        event.setTicketCounter(10);
+        when(eventRepository.countParticipants(1)).thenReturn(20);
+
+        assertThat(ticketReservationEngine.reserve(event)).isEqualTo(21);
+        ticketReservationEngine.flush();
+
+        verify(eventRepository).updateTicketCounter(1, 21, false);
+    }
+
+    @Test
+    void testRelease() {
+        event.setTicketCounter(3999);
+        ticketReservationEngine.reserve(event);
+
+        ticketReservationEngine.release(1, 1);
+
+        assertThat(ticketReservationEngine.reserve(event)).isEqualTo(4000);
+    }
+
+    @Test
+    void testFlush_WritesChangedCountersOnce() {
+        ticketReservationEngine.reserve(event);
+        ticketReservationEngine.reserve(event);
+
+        ticketReservationEngine.flush();
+        ticketReservationEngine.flush();
+
+        verify(eventRepository, times(1)).updateTicketCounter(1, 2, false);
+        verify(cacheInvalidator, times(1)).evictPerformersOfEvent(1);
+    }
+
+    @Test
+    void testReserve_Database_GuardedUpdate() {
+        ReflectionTestUtils.setField(ticketReservationEngine, "counterStore", TicketCounterStore.DATABASE);
+        when(eventRepository.reserveTickets(event, 1)).thenReturn(1);
+
+        assertThat(ticketReservationEngine.reserve(event)).isEqualTo(1);
+        ticketReservationEngine.flush();
+
+        verify(eventRepository, never()).updateTicketCounter(anyInt(), anyInt(), anyBoolean());
+        verify(cacheInvalidator).evictPerformersOfEvent(1);
+        assertThat(meterRegistry.get("tickets.sold").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testReserve_Database_BatchGetsTheRemainingTickets() {
+        ReflectionTestUtils.setField(ticketReservationEngine, "counterStore", TicketCounterStore.DATABASE);
+        when(eventRepository.reserveTickets(event, 20)).thenReturn(0);
+        when(eventRepository.findRemainingTickets(1)).thenReturn(10);
+        when(eventRepository.reserveTickets(event, 10)).thenReturn(4000);
+
+        assertThat(ticketReservationEngine.reserve(event, 20)).isEqualTo(10);
+        assertThat(ticketReservationEngine.soldTickets(event)).isEqualTo(4000);
+        assertThat(event.isAvailableForPublic()).isFalse();
+        assertThat(meterRegistry.get("events.sold.out").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testReserve_Database_SoldOut() {
+        ReflectionTestUtils.setField(ticketReservationEngine, "counterStore", TicketCounterStore.DATABASE);
+        when(eventRepository.reserveTickets(event, 1)).thenReturn(0);
+        when(eventRepository.findRemainingTickets(1)).thenReturn(0);
+
+        assertThrows(EventIsNotAvailableForPublicException.class, () -> ticketReservationEngine.reserve(event));
+        assertThat(meterRegistry.get("tickets.sold").counter().count()).isZero();
+    }
+
+    @Test
+    void testRelease_Database_WrittenAtOnce() {
+        ReflectionTestUtils.setField(ticketReservationEngine, "counterStore", TicketCounterStore.DATABASE);
+
+        ticketReservationEngine.release(1, 3);
+
+        verify(eventRepository).releaseTickets(1, 3);
+        verify(eventReadModel).eventChanged(1);
+        verify(cacheInvalidator).evictPerformersOfEvent(1);
+        assertThat(meterRegistry.get("tickets.released").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void testFlush_FailedFlushWrittenAgain() {
+        ticketReservationEngine.reserve(event);
+        doThrow(new IllegalStateException("connection lost")).doNothing()
+                .when(eventRepository).updateTicketCounter(1, 1, false);
+
+        assertThrows(IllegalStateException.class, () -> ticketReservationEngine.flush());
+        ticketReservationEngine.flush();
+
+        verify(eventRepository, times(2)).updateTicketCounter(1, 1, false);
+    }
+
+    @Test
+    void testFlush_PastEventDroppedAfterWrite() {
+        event.setEventDate(LocalDateTime.now().minusHours(1));
+        ticketReservationEngine.reserve(event);
+
+        ticketReservationEngine.flush();
+        ticketReservationEngine.release(1, 1);
+
+        verify(eventRepository).updateTicketCounter(1, 1, false);
+        verify(eventRepository).releaseTickets(1, 1);
+    }
+
+    @Test
+    void testEventDeleted_DroppedAfterWrite() {
+        ticketReservationEngine.reserve(event);
+        ticketReservationEngine.eventDeleted(1);
+
+        ticketReservationEngine.release(1, 1);
+        ticketReservationEngine.flush();
+        ticketReservationEngine.flush();
+
+        verify(eventRepository).updateTicketCounter(1, 0, false);
+        verify(eventRepository, never()).releaseTickets(anyInt(), anyInt());
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(ticketReservationEngine, "ticketsByEvent")).isEmpty();
+    }
+
+    @Test
+    void testReserve_ConcurrentSignUpsNeverOversell() throws InterruptedException {
+        int signUps = 50_000;
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger rejections = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < signUps; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                try {
+                    ticketReservationEngine.reserve(event);
+                    successes.incrementAndGet();
+                } catch (EventIsNotAvailableForPublicException e) {
+                    rejections.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        ticketReservationEngine.flush();
+
+        assertThat(futures).allMatch(Future::isDone);
+        assertThat(successes.get()).isEqualTo(4000);
+        assertThat(rejections.get()).isEqualTo(signUps - 4000);
+        verify(eventRepository).updateTicketCounter(1, 4000, true);
+    }
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        ticketReservationEngine = new TicketReservationEngine(eventRepository,
+                TransactionOperations.withoutTransaction(), eventReadModel, new BusinessMetrics(meterRegistry),
+                cacheInvalidator);
+
+        MusicVenue musicVenue = new MusicVenue();
+        musicVenue.setName("Budapest Park");
+        musicVenue.setCapacity(4000);
+
+        event = new Event();
+        event.setId(1);
+        event.setEventName("Elefánt - Budapest Park");
+        event.setAvailableForPublic(true);
+        event.setTicketCounter(0);
+        event.setEventDate(LocalDateTime.now().plusMonths(1));
+        event.setMusicVenue(musicVenue);
+    }
+}
@@ -0,0 +1,204 @@
+package FeelGoodApp.service;
+
+import FeelGoodApp.dto.AdmissionInfo;
+import FeelGoodApp.dto.EventInfo;
+import FeelGoodApp.exceptionhandling.AdmissionRequiredException;
+import FeelGoodApp.exceptionhandling.AdmissionTokenNotFoundException;
+import FeelGoodApp.exceptionhandling.BatchRegistrationNotAllowedException;
+import FeelGoodApp.exceptionhandling.EventIsNotAvailableForPublicException;
+import FeelGoodApp.exceptionhandling.EventNotFoundException;
+import FeelGoodApp.exceptionhandling.WaitingRoomFullException;
+import FeelGoodApp.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static FeelGoodApp.domain.enums.AdmissionStatus.*;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_4;
+import static FeelGoodApp.domain.enums.PartnerLevel.TIER_5;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({MockitoExtension.class})
+public class WaitingRoomTest {
+
+    @Mock
+    EventRepository eventRepository;
+
+    @Mock
+    EventReadModel eventReadModel;
+
+    private EventInfo event;
+
+    private WaitingRoom waitingRoom;
+
+    @Test
+    void testRestore_OpensEventsOnSaleWithTopTierHeadliner() {
+        when(eventRepository.findOnSaleEventIdsByHeadlinerLevels(List.of(TIER_5))).thenReturn(List.of(3));
+
+        waitingRoom.restore();
+
+        assertThat(waitingRoom.isOpen(3)).isTrue();
+    }
+
+    @Test
+    void testHeadlinerAssigned_OnlyMinLevelOpens() {
+        waitingRoom.headlinerAssigned(1, TIER_4);
+        waitingRoom.headlinerAssigned(2, TIER_5);
+
+        assertThat(waitingRoom.isOpen(1)).isFalse();
+        assertThat(waitingRoom.isOpen(2)).isTrue();
+    }
+
+    @Test
+    void testAdmit_AtMostAdmissionsPerInterval() {
+        waitingRoom.open(1);
+        AdmissionInfo first = waitingRoom.join(1);
+        AdmissionInfo second = waitingRoom.join(1);
+        AdmissionInfo third = waitingRoom.join(1);
+
+        waitingRoom.admit();
+
+        assertThat(waitingRoom.status(1, first.getToken()).getStatus()).isEqualTo(ADMITTED);
+        assertThat(waitingRoom.status(1, second.getToken()).getStatus()).isEqualTo(ADMITTED);
+        AdmissionInfo thirdPolled = waitingRoom.status(1, third.getToken());
+        assertThat(thirdPolled.getStatus()).isEqualTo(WAITING);
+        assertThat(thirdPolled.getPosition()).isEqualTo(1);
+        assertThat(waitingRoom.waiting(1)).isEqualTo(1);
+    }
+
+    @Test
+    void testAdmit_AbandonedTokenIsSkipped() {
+        waitingRoom.open(1);
+        AdmissionInfo abandoned = waitingRoom.join(1);
+        ReflectionTestUtils.setField(waitingRoom, "pollTimeout", -1L);
+
+        waitingRoom.admit();
+
+        assertThat(waitingRoom.status(1, abandoned.getToken()).getStatus()).isEqualTo(EXPIRED);
+    }
+
+    @Test
+    void testJoin_FullQueueTurnsAway() {
+        waitingRoom.open(1);
+        waitingRoom.join(1);
+        waitingRoom.join(1);
+        waitingRoom.join(1);
+
+        assertThrows(WaitingRoomFullException.class, () -> waitingRoom.join(1));
+        waitingRoom.admit();
+        assertThat(waitingRoom.join(1).getPosition()).isEqualTo(2);
+    }
+
+    @Test
+    void testJoin_UnknownEventWithoutQueue() {
+        when(eventReadModel.getEvent(9)).thenThrow(new EventNotFoundException(9));
+
+        assertThrows(EventNotFoundException.class, () -> waitingRoom.join(9));
+    }
+
+    @Test
+    void testAdmit_SoldOutEventExpiresWaitingTokens() {
+        waitingRoom.open(1);
+        AdmissionInfo admission = waitingRoom.join(1);
+        event.setAvailableForPublic(false);
+
+        waitingRoom.admit();
+
+        assertThat(waitingRoom.status(1, admission.getToken()).getStatus()).isEqualTo(EXPIRED);
+        assertThrows(EventIsNotAvailableForPublicException.class, () -> waitingRoom.join(1));
+        assertThat(waitingRoom.isOpen(1)).isTrue();
+    }
+
+    @Test
+    void testAdmit_PastEventClosesWaitingRoom() {
+        waitingRoom.open(1);
+        AdmissionInfo admission = waitingRoom.join(1);
+        event.setEventDate(LocalDateTime.now().minusHours(1));
+
+        waitingRoom.admit();
+
+        assertThat(waitingRoom.isOpen(1)).isFalse();
+        assertThat(waitingRoom.status(1, admission.getToken()).getStatus()).isEqualTo(EXPIRED);
+    }
+
+    @Test
+    void testCheckBatchAllowed_OnlyWithoutWaitingRoom() {
+        waitingRoom.open(1);
+
+        assertThrows(BatchRegistrationNotAllowedException.class, () -> waitingRoom.checkBatchAllowed(1));
+        waitingRoom.checkBatchAllowed(2);
+    }
+
+    @Test
+    void testAdmit_UsedTokenForgottenAfterAdmissionTtl() throws InterruptedException {
+        ReflectionTestUtils.setField(waitingRoom, "admissionTtl", 20L);
+        ReflectionTestUtils.setField(waitingRoom, "admissionInterval", 1L);
+        waitingRoom.init();
+        waitingRoom.open(1);
+        AdmissionInfo admission = waitingRoom.join(1);
+        waitingRoom.admit();
+        waitingRoom.claim(1, admission.getToken());
+        waitingRoom.used(admission.getToken());
+
+        Thread.sleep(50);
+        waitingRoom.admit();
+
+        assertThrows(AdmissionTokenNotFoundException.class, () -> waitingRoom.status(1, admission.getToken()));
+    }
+
+    @Test
+    void testClaim_ReleasedTokenCanBeClaimedAgain() {
+        waitingRoom.open(1);
+        AdmissionInfo admission = waitingRoom.join(1);
+        waitingRoom.admit();
+
+        waitingRoom.claim(1, admission.getToken());
+        assertThrows(AdmissionRequiredException.class, () -> waitingRoom.claim(1, admission.getToken()));
+        waitingRoom.release(admission.getToken());
+        waitingRoom.claim(1, admission.getToken());
+        waitingRoom.used(admission.getToken());
+
+        assertThat(waitingRoom.status(1, admission.getToken()).getStatus()).isEqualTo(USED);
+        assertThrows(AdmissionRequiredException.class, () -> waitingRoom.claim(1, admission.getToken()));
+    }
+
+    @Test
+    void testClaim_ExpiredAdmission() {
+        waitingRoom.open(1);
+        AdmissionInfo admission = waitingRoom.join(1);
+        waitingRoom.admit();
+        ReflectionTestUtils.setField(waitingRoom, "admissionTtl", -1L);
+
+        assertThrows(AdmissionRequiredException.class, () -> waitingRoom.claim(1, admission.getToken()));
+        assertThrows(AdmissionRequiredException.class, () -> waitingRoom.claim(1, null));
+        waitingRoom.claim(2, null);
+    }
+
+    @BeforeEach
+    void init() {
+        waitingRoom = new WaitingRoom(eventRepository, TransactionOperations.withoutTransaction(), eventReadModel);
+        ReflectionTestUtils.setField(waitingRoom, "minLevel", TIER_5);
+        ReflectionTestUtils.setField(waitingRoom, "admissionsPerInterval", 2);
+        ReflectionTestUtils.setField(waitingRoom, "admissionInterval", 1000L);
+        ReflectionTestUtils.setField(waitingRoom, "admissionTtl", 120000L);
+        ReflectionTestUtils.setField(waitingRoom, "pollTimeout", 30000L);
+        ReflectionTestUtils.setField(waitingRoom, "maxWaiting", 3);
+        waitingRoom.init();
+
+        event = new EventInfo();
+        event.setEventDate(LocalDateTime.now().plusMonths(1));
+        event.setAvailableForPublic(true);
+        lenient().when(eventReadModel.getEvent(anyInt())).thenReturn(event);
+    }
+}